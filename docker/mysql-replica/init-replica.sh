@@ -0,0 +1,15 @@
+#!/bin/bash
+# Points the replica at the primary using GTID auto-positioning and starts replication.
+# Runs once, on the first start of an empty replica data directory.
+set -e
+
+mysql -uroot -p"${MYSQL_ROOT_PASSWORD}" <<SQL
+CHANGE REPLICATION SOURCE TO
+  SOURCE_HOST='${SOURCE_HOST}',
+  SOURCE_PORT=3306,
+  SOURCE_USER='root',
+  SOURCE_PASSWORD='${SOURCE_PASSWORD}',
+  SOURCE_AUTO_POSITION=1,
+  GET_SOURCE_PUBLIC_KEY=1;
+START REPLICA;
+SQL
@@ -0,0 +1,78 @@
+package com.spring.app.common.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands items to a batch consumer without a dedicated thread.
+ *
+ * <p>
+ * {@link #submit(Object)} queues the item and then tries to become the
+ * combiner. The thread that wins drains everything queued so far, including
+ * items from threads that lost the race, and passes it on in batches of at
+ * most {@code maxBatchSize}. A lone item is handled immediately; under
+ * concurrent load, batches grow with the load. The consumer is never called
+ * concurrently with itself.
+ *
+ * @param <T> the item type
+ */
+@Slf4j
+public final class CombiningBatcher<T> {
+
+  private final String name;
+  private final int maxBatchSize;
+  private final Consumer<List<T>> consumer;
+  private final Queue<T> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean combining = new AtomicBoolean();
+
+  public CombiningBatcher(String name, int maxBatchSize, Consumer<List<T>> consumer) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Max batch size must be at least 1");
+    }
+    this.name = name;
+    this.maxBatchSize = maxBatchSize;
+    this.consumer = consumer;
+  }
+
+  public void submit(T item) {
+    pending.add(item);
+    // Re-check after releasing: an item queued while the previous combiner was
+    // finishing would otherwise wait for the next submit.
+    while (!pending.isEmpty() && combining.compareAndSet(false, true)) {
+      try {
+        drain();
+      } finally {
+        combining.set(false);
+      }
+    }
+  }
+
+  private void drain() {
+    List<T> batch = new ArrayList<>(maxBatchSize);
+    T item;
+    while ((item = pending.poll()) != null) {
+      batch.add(item);
+      if (batch.size() == maxBatchSize) {
+        accept(batch);
+        batch = new ArrayList<>(maxBatchSize);
+      }
+    }
+    if (!batch.isEmpty()) {
+      accept(batch);
+    }
+  }
+
+  private void accept(List<T> batch) {
+    try {
+      consumer.accept(batch);
+    } catch (RuntimeException e) {
+      log.error("{} batch of {} items failed: {}", name, batch.size(), e.getMessage(), e);
+    }
+  }
+}
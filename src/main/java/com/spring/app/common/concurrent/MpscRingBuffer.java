@@ -0,0 +1,101 @@
+package com.spring.app.common.concurrent;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer.
+ *
+ * <p>
+ * Each slot carries a sequence number. A producer claims the slot at the tail
+ * with one CAS and publishes the element by advancing the slot's sequence; it
+ * never waits, and {@link #offer(Object)} returns {@code false} when the buffer
+ * is full. Only one thread may call {@link #poll()} or
+ * {@link #drainTo(Collection, int)}.
+ *
+ * @param <E> the element type
+ */
+public final class MpscRingBuffer<E> {
+
+  private final int mask;
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+
+  public MpscRingBuffer(int requestedCapacity) {
+    if (requestedCapacity < 2) {
+      throw new IllegalArgumentException("Capacity must be at least 2");
+    }
+    int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+    this.mask = capacity - 1;
+    this.elements = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  public boolean offer(E element) {
+    long position = tail.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          elements.lazySet(index, element);
+          sequences.lazySet(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * @return the oldest published element, or {@code null} when none is ready
+   */
+  public E poll() {
+    long position = head.get();
+    int index = (int) (position & mask);
+    if (sequences.get(index) != position + 1) {
+      return null;
+    }
+    E element = elements.get(index);
+    elements.lazySet(index, null);
+    sequences.lazySet(index, position + mask + 1);
+    head.lazySet(position + 1);
+    return element;
+  }
+
+  public int drainTo(Collection<? super E> target, int maxElements) {
+    int drained = 0;
+    E element;
+    while (drained < maxElements && (element = poll()) != null) {
+      target.add(element);
+      drained++;
+    }
+    return drained;
+  }
+
+  /**
+   * @return an estimate of the number of buffered elements
+   */
+  public int size() {
+    return (int) Math.max(0, Math.min(tail.get() - head.get(), mask + 1L));
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public int capacity() {
+    return mask + 1;
+  }
+}
@@ -8,7 +8,7 @@ import lombok.*;
 
 import java.util.UUID;
 
-import org.hibernate.annotations.UuidGenerator;
+import com.spring.app.common.entities.generators.ConfigurableUuid;
 
 @Getter
 @Setter
@@ -16,7 +16,7 @@ import org.hibernate.annotations.UuidGenerator;
 public abstract class BaseEntity extends BaseAuditingEntity {
 
   @Id
-  @UuidGenerator
+  @ConfigurableUuid
   @Column(name = "id", updatable = false, nullable = false)
   private UUID id;
 }
@@ -0,0 +1,19 @@
+package com.spring.app.common.entities.generators;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates UUID identifiers using the strategy configured by
+ * {@value ConfigurableUuidGenerator#STRATEGY_SETTING} (random v4 by default,
+ * or time-ordered v7).
+ */
+@IdGeneratorType(ConfigurableUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface ConfigurableUuid {
+}
@@ -0,0 +1,44 @@
+package com.spring.app.common.entities.generators;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import com.spring.app.enums.EUuidStrategy;
+
+public class ConfigurableUuidGenerator implements BeforeExecutionGenerator {
+
+  /**
+   * Hibernate setting selecting the strategy, set through
+   * {@code spring.jpa.properties.app.jpa.uuid-strategy}.
+   */
+  public static final String STRATEGY_SETTING = "app.jpa.uuid-strategy";
+
+  private final EUuidStrategy strategy;
+
+  public ConfigurableUuidGenerator(ConfigurableUuid config, Member idMember,
+      CustomIdGeneratorCreationContext creationContext) {
+    Object setting = creationContext.getServiceRegistry()
+        .requireService(ConfigurationService.class)
+        .getSettings()
+        .get(STRATEGY_SETTING);
+    this.strategy = EUuidStrategy.fromValue(setting);
+  }
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+      EventType eventType) {
+    return UuidFactory.generate(strategy);
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
@@ -0,0 +1,44 @@
+package com.spring.app.common.entities.generators;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.spring.app.enums.EUuidStrategy;
+
+public final class UuidFactory {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  /**
+   * Last issued (unix millis << 12 | sequence). Keeps time-ordered ids strictly
+   * increasing within this JVM, even when several are generated in the same
+   * millisecond or the wall clock steps backwards.
+   */
+  private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+  private UuidFactory() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  public static UUID generate(EUuidStrategy strategy) {
+    return strategy == EUuidStrategy.TIME_ORDERED ? timeOrdered() : UUID.randomUUID();
+  }
+
+  /**
+   * Generates an RFC 9562 version 7 UUID: a 48-bit unix millisecond timestamp,
+   * a 12-bit monotonic sequence in rand_a and 62 random bits. Stored as
+   * BINARY(16) the timestamp is the leading bytes, so new rows are appended to
+   * the right edge of the clustered index instead of random pages.
+   *
+   * @return a time-ordered UUID
+   */
+  public static UUID timeOrdered() {
+    long candidate = System.currentTimeMillis() << 12;
+    long state = LAST_TIMESTAMP_AND_SEQUENCE.updateAndGet(last -> Math.max(candidate, last + 1));
+
+    long mostSigBits = ((state >>> 12) << 16) | 0x7000L | (state & 0xFFFL);
+    long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+}
@@ -0,0 +1,42 @@
+package com.spring.app.common.pagination;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.spring.app.exceptions.BadRequestException;
+
+/**
+ * Position of the last row of a keyset page ordered by
+ * {@code (created_at, id)}, exchanged with clients as an opaque base64url
+ * token.
+ */
+public record KeysetCursor(Instant createdAt, UUID id) {
+
+  private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+  public String encode() {
+    ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+        .putLong(createdAt.getEpochSecond())
+        .putInt(createdAt.getNano())
+        .putLong(id.getMostSignificantBits())
+        .putLong(id.getLeastSignificantBits());
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+  }
+
+  public static KeysetCursor decode(String cursor) {
+    try {
+      byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+      if (bytes.length != ENCODED_BYTES) {
+        throw new BadRequestException("Invalid cursor");
+      }
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      Instant createdAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+      return new KeysetCursor(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new BadRequestException("Invalid cursor");
+    }
+  }
+}
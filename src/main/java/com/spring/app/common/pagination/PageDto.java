@@ -2,10 +2,22 @@ package com.spring.app.common.pagination;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Builder;
 
+/**
+ * A page of items. Offset pages carry {@code meta}; keyset pages carry
+ * {@code nextCursor} instead, which is absent on the last page. Pages whose
+ * total is too costly to count carry only {@code hasNext}.
+ */
 @Builder
 public record PageDto<T>(
   List<T> items,
-  PaginationMetaDataDto meta
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  PaginationMetaDataDto meta,
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  String nextCursor,
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  Boolean hasNext
 ) {}
\ No newline at end of file
@@ -9,7 +9,9 @@ public record PaginationDto(
   int page,
   int limit,
   @JsonInclude(JsonInclude.Include.NON_NULL)
-  String search
+  String search,
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  String cursor
 ) {
   /**
    * Calculates the skip value for pagination queries.
@@ -27,6 +27,28 @@ public class BasePageResponse<T> extends BaseResponse<PageDto<T>> {
       Instant.now().toString());
   }
 
+  public BasePageResponse(String message, List<T> data, String nextCursor) {
+    super(
+      HttpStatus.OK.value(),
+      message,
+      PageDto.<T>builder()
+        .items(data)
+        .nextCursor(nextCursor)
+        .build(),
+      Instant.now().toString());
+  }
+
+  public BasePageResponse(String message, List<T> data, boolean hasNext) {
+    super(
+      HttpStatus.OK.value(),
+      message,
+      PageDto.<T>builder()
+        .items(data)
+        .hasNext(hasNext)
+        .build(),
+      Instant.now().toString());
+  }
+
   /**
    * Creates a new {@link BasePageResponse} instance with the provided data,
    * pagination details,
@@ -85,4 +107,31 @@ public class BasePageResponse<T> extends BaseResponse<PageDto<T>> {
                                                          String message) {
     return of(data, paginationDto, totalItems, message);
   }
+
+  /**
+   * Creates a new keyset {@link BasePageResponse}. No total is computed; the
+   * client follows {@code nextCursor} until it is absent.
+   *
+   * @param data       the list of items to include in the response
+   * @param nextCursor the opaque cursor of the next page, or {@code null} on the
+   *                   last page
+   * @param message    the message to include in the response
+   * @return a new {@link BasePageResponse} with the specified parameters
+   */
+  public static <T> @NonNull BasePageResponse<T> ofCursor(List<T> data, String nextCursor, String message) {
+    return new BasePageResponse<T>(message, data, nextCursor);
+  }
+
+  /**
+   * Creates a new offset {@link BasePageResponse} without a total. The client
+   * requests the next page while {@code hasNext} is true.
+   *
+   * @param data    the list of items to include in the response
+   * @param hasNext whether a next page exists
+   * @param message the message to include in the response
+   * @return a new {@link BasePageResponse} with the specified parameters
+   */
+  public static <T> @NonNull BasePageResponse<T> ofSlice(List<T> data, boolean hasNext, String message) {
+    return new BasePageResponse<T>(message, data, hasNext);
+  }
 }
\ No newline at end of file
@@ -34,6 +34,14 @@ public final class ResponseBuilder {
     return ResponseEntity.ok(BasePageResponse.success(data, paginationDto, totalItems));
   }
 
+  public static <T> @NonNull ResponseEntity<BasePageResponse<T>> successCursorPageResponse(List<T> data, String nextCursor, String message) {
+    return ResponseEntity.ok(BasePageResponse.ofCursor(data, nextCursor, message));
+  }
+
+  public static <T> @NonNull ResponseEntity<BasePageResponse<T>> successSlicePageResponse(List<T> data, boolean hasNext, String message) {
+    return ResponseEntity.ok(BasePageResponse.ofSlice(data, hasNext, message));
+  }
+
   public static <T> @NonNull ResponseEntity<BaseResponse<T>> created(T data) {
     return created("Created", data);
   }
@@ -42,6 +50,10 @@ public final class ResponseBuilder {
     return ResponseEntity.status(HttpStatus.CREATED).body(BaseResponse.success(HttpStatus.CREATED, message, data));
   }
 
+  public static <T> @NonNull ResponseEntity<BaseResponse<T>> accepted(String message, T data) {
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(BaseResponse.success(HttpStatus.ACCEPTED, message, data));
+  }
+
   public static @NonNull ResponseEntity<Void> noContent() {
     return ResponseEntity.noContent().build();
   }
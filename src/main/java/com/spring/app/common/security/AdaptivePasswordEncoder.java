@@ -0,0 +1,192 @@
+package com.spring.app.common.security;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.spring.app.configs.properties.PasswordHashingProperties;
+import com.spring.app.enums.EPasswordHashAlgorithm;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link DelegatingPasswordEncoder} over BCrypt and Argon2id whose cost is
+ * calibrated to the hardware at startup.
+ *
+ * <p>
+ * New hashes are written as {@code {id}hash} with the configured algorithm and
+ * the calibrated cost. Hashes without an id prefix, as stored before this
+ * encoder existed, are read as BCrypt.
+ *
+ * <p>
+ * Calibration differs between nodes, so {@link #upgradeEncoding(String)} does
+ * not compare against this node's cost exactly. A hash is rewritten when it
+ * uses another algorithm or memory/parallelism setting, when its cost is
+ * outside the configured minimum and maximum, or when it is more than
+ * {@code rehashTolerance} times cheaper than the calibrated cost. Hashes are
+ * never rewritten to a lower cost within the configured range, so nodes with
+ * different calibrations cannot flip a hash back and forth.
+ */
+@Slf4j
+public final class AdaptivePasswordEncoder implements PasswordEncoder {
+
+  private static final int SALT_LENGTH = 16;
+  private static final int HASH_LENGTH = 32;
+  private static final int CALIBRATION_ROUNDS = 3;
+  private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+  private final DelegatingPasswordEncoder delegate;
+  private final PasswordHashingProperties properties;
+  private final int bcryptStrength;
+  private final int argon2Iterations;
+
+  private AdaptivePasswordEncoder(PasswordHashingProperties properties, int bcryptStrength, int argon2Iterations,
+      Map<String, PasswordEncoder> encoders) {
+    this.delegate = new DelegatingPasswordEncoder(properties.getAlgorithm().getId(), encoders);
+    this.delegate.setDefaultPasswordEncoderForMatches(encoders.get(EPasswordHashAlgorithm.BCRYPT.getId()));
+    this.properties = properties;
+    this.bcryptStrength = bcryptStrength;
+    this.argon2Iterations = argon2Iterations;
+  }
+
+  /**
+   * Builds the encoder, measuring hash times on the calling thread when
+   * calibration is enabled.
+   *
+   * @param properties the hashing configuration
+   * @return the encoder
+   */
+  public static AdaptivePasswordEncoder create(PasswordHashingProperties properties) {
+    int bcryptStrength = properties.getBcryptMinStrength();
+    int argon2Iterations = properties.getArgon2MinIterations();
+    long targetNanos = properties.getTargetDuration().toNanos();
+
+    if (properties.isCalibrate() && properties.getAlgorithm() == EPasswordHashAlgorithm.BCRYPT) {
+      // Every strength step doubles the work.
+      long measured = measure(new BCryptPasswordEncoder(bcryptStrength));
+      while (bcryptStrength < properties.getBcryptMaxStrength() && measured * 2 <= targetNanos) {
+        bcryptStrength++;
+        measured *= 2;
+      }
+    } else if (properties.isCalibrate()) {
+      // Work grows linearly with the iteration count at a fixed memory size.
+      long perIteration = measure(argon2(properties, 1));
+      long affordable = perIteration == 0 ? Long.MAX_VALUE : targetNanos / perIteration;
+      argon2Iterations = (int) Math.clamp(affordable, properties.getArgon2MinIterations(),
+          properties.getArgon2MaxIterations());
+    }
+
+    Map<String, PasswordEncoder> encoders = Map.of(
+        EPasswordHashAlgorithm.BCRYPT.getId(), new BCryptPasswordEncoder(bcryptStrength),
+        EPasswordHashAlgorithm.ARGON2ID.getId(), argon2(properties, argon2Iterations));
+
+    if (properties.getAlgorithm() == EPasswordHashAlgorithm.BCRYPT) {
+      log.info("Password hashing: bcrypt strength {} (target {} ms)", bcryptStrength,
+          properties.getTargetDuration().toMillis());
+    } else {
+      log.info("Password hashing: argon2id m={}KiB t={} p={} (target {} ms)", properties.getArgon2MemoryKib(),
+          argon2Iterations, properties.getArgon2Parallelism(), properties.getTargetDuration().toMillis());
+    }
+    return new AdaptivePasswordEncoder(properties, bcryptStrength, argon2Iterations, encoders);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return delegate.encode(rawPassword);
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return delegate.matches(rawPassword, encodedPassword);
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+    if (!encodedPassword.startsWith("{")) {
+      // Legacy hash without an id prefix; rewrite it so the algorithm is explicit.
+      return true;
+    }
+    int end = encodedPassword.indexOf('}');
+    if (end < 0) {
+      return false;
+    }
+    String id = encodedPassword.substring(1, end);
+    String hash = encodedPassword.substring(end + 1);
+    if (!id.equals(properties.getAlgorithm().getId())) {
+      return true;
+    }
+    try {
+      return properties.getAlgorithm() == EPasswordHashAlgorithm.BCRYPT
+          ? upgradeBcrypt(hash)
+          : upgradeArgon2(hash);
+    } catch (RuntimeException e) {
+      // Unparseable hash: leave it to matches(), which rejects it.
+      return false;
+    }
+  }
+
+  /**
+   * {@code $2a$12$...}: every strength step doubles the work.
+   */
+  private boolean upgradeBcrypt(String hash) {
+    int strength = Integer.parseInt(hash.split("\\$")[2]);
+    if (strength < properties.getBcryptMinStrength() || strength > properties.getBcryptMaxStrength()) {
+      return true;
+    }
+    return Math.scalb(1.0, bcryptStrength - strength) > properties.getRehashTolerance();
+  }
+
+  /**
+   * {@code $argon2id$v=19$m=19456,t=2,p=1$...}: work grows linearly with the
+   * iteration count at a fixed memory size and parallelism.
+   */
+  private boolean upgradeArgon2(String hash) {
+    int memory = 0;
+    int iterations = 0;
+    int parallelism = 0;
+    for (String parameter : hash.split("\\$")[3].split(",")) {
+      int value = Integer.parseInt(parameter.substring(2));
+      switch (parameter.charAt(0)) {
+        case 'm' -> memory = value;
+        case 't' -> iterations = value;
+        case 'p' -> parallelism = value;
+        default -> {
+        }
+      }
+    }
+    if (memory != properties.getArgon2MemoryKib() || parallelism != properties.getArgon2Parallelism()) {
+      return true;
+    }
+    if (iterations < properties.getArgon2MinIterations() || iterations > properties.getArgon2MaxIterations()) {
+      return true;
+    }
+    return (double) argon2Iterations / iterations > properties.getRehashTolerance();
+  }
+
+  private static Argon2PasswordEncoder argon2(PasswordHashingProperties properties, int iterations) {
+    return new Argon2PasswordEncoder(SALT_LENGTH, HASH_LENGTH, properties.getArgon2Parallelism(),
+        properties.getArgon2MemoryKib(), iterations);
+  }
+
+  /**
+   * @return the median hash time in nanoseconds, after one warm-up hash
+   */
+  private static long measure(PasswordEncoder encoder) {
+    encoder.encode(CALIBRATION_PASSWORD);
+    long[] samples = new long[CALIBRATION_ROUNDS];
+    for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+      long start = System.nanoTime();
+      encoder.encode(CALIBRATION_PASSWORD);
+      samples[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(samples);
+    return samples[CALIBRATION_ROUNDS / 2];
+  }
+}
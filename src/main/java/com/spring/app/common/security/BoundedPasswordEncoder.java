@@ -0,0 +1,125 @@
+package com.spring.app.common.security;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.spring.app.exceptions.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs {@code encode} and {@code matches} of the delegate encoder on a
+ * dedicated, bounded executor instead of the calling request thread.
+ *
+ * <p>
+ * The executor caps how many cores hashing may use, so a login storm cannot
+ * starve unrelated endpoints. When its queue is full, or a hash is not done
+ * within {@code maxWait}, the caller gets a {@link ServiceUnavailableException}
+ * (503) straight away instead of piling up behind the backlog.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  private static final String BUSY_MESSAGE = "Authentication service is busy, please retry shortly";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolTaskExecutor executor;
+  private final Duration maxWait;
+
+  private final Timer waitTimer;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter rejectedCounter;
+  private final Counter timedOutCounter;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolTaskExecutor executor, Duration maxWait,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.maxWait = maxWait;
+
+    Gauge.builder("password.hashing.queue", executor, ThreadPoolTaskExecutor::getQueueSize)
+        .description("Password hash requests waiting for a hashing thread")
+        .register(meterRegistry);
+    Gauge.builder("password.hashing.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+        .description("Hashing threads currently busy")
+        .register(meterRegistry);
+    this.waitTimer = Timer.builder("password.hashing.wait")
+        .description("Time a hash request waited for a hashing thread")
+        .register(meterRegistry);
+    this.encodeTimer = Timer.builder("password.hashing.duration")
+        .tag("operation", "encode")
+        .register(meterRegistry);
+    this.matchesTimer = Timer.builder("password.hashing.duration")
+        .tag("operation", "matches")
+        .register(meterRegistry);
+    this.rejectedCounter = Counter.builder("password.hashing.rejected")
+        .tag("reason", "queue_full")
+        .register(meterRegistry);
+    this.timedOutCounter = Counter.builder("password.hashing.rejected")
+        .tag("reason", "timeout")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(encodeTimer, () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  private <T> T execute(Timer hashTimer, Supplier<T> hash) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        long startedAt = System.nanoTime();
+        waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+        try {
+          return hash.get();
+        } finally {
+          hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+      });
+    } catch (TaskRejectedException e) {
+      rejectedCounter.increment();
+      throw new ServiceUnavailableException(BUSY_MESSAGE, e);
+    }
+
+    try {
+      return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      // A cancelled task still in the queue is skipped when a thread picks it up.
+      future.cancel(false);
+      timedOutCounter.increment();
+      throw new ServiceUnavailableException(BUSY_MESSAGE, e);
+    } catch (InterruptedException e) {
+      future.cancel(false);
+      Thread.currentThread().interrupt();
+      throw new ServiceUnavailableException(BUSY_MESSAGE, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+}
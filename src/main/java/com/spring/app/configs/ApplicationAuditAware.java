@@ -27,7 +27,8 @@ public class ApplicationAuditAware implements AuditorAware<String> {
     if (authentication == null ||
         !authentication.isAuthenticated() ||
         authentication instanceof AnonymousAuthenticationToken) {
-      log.warn("No authenticated user found, returning default auditor.");
+      // Expected for anonymous writes such as registration and OAuth2 sign-up.
+      log.debug("No authenticated user found, returning default auditor.");
       return Optional.of(SYSTEM_AUDITOR);
     }
 
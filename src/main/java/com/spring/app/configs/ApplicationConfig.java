@@ -1,8 +1,10 @@
 package com.spring.app.configs;
 
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,15 +13,19 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.util.AntPathMatcher;
 
+import com.spring.app.common.security.AdaptivePasswordEncoder;
+import com.spring.app.common.security.BoundedPasswordEncoder;
+import com.spring.app.configs.properties.PasswordHashingProperties;
 import com.spring.app.enums.EUserStatus;
 import com.spring.app.exceptions.UserNotActiveException;
 import com.spring.app.modules.auth.entities.User;
 import com.spring.app.modules.auth.repositories.UserRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -63,13 +69,30 @@ public class ApplicationConfig {
   }
 
   /**
-   * Provides a PasswordEncoder bean that uses BCrypt hashing algorithm.
+   * Provides the PasswordEncoder used on request paths. Hashing runs on the
+   * bounded {@code passwordHashExecutor}, and callers get a 503 when it is
+   * saturated.
    * 
-   * @return A PasswordEncoder instance with BCryptPasswordEncoder.
+   * @return A PasswordEncoder that hashes on the hashing executor.
    */
   @Bean
-  PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  @Primary
+  PasswordEncoder passwordEncoder(@Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+      PasswordHashingProperties passwordHashingProperties, MeterRegistry meterRegistry) {
+    return new BoundedPasswordEncoder(rawPasswordEncoder(passwordHashingProperties), passwordHashExecutor,
+        passwordHashingProperties.getMaxWait(), meterRegistry);
+  }
+
+  /**
+   * Provides a PasswordEncoder that hashes on the calling thread, for
+   * background work that has its own executor (bulk import). Supports BCrypt
+   * and Argon2id, with the cost calibrated once at startup.
+   * 
+   * @return An {@link AdaptivePasswordEncoder}.
+   */
+  @Bean
+  PasswordEncoder rawPasswordEncoder(PasswordHashingProperties passwordHashingProperties) {
+    return AdaptivePasswordEncoder.create(passwordHashingProperties);
   }
 
   /**
@@ -81,10 +104,10 @@ public class ApplicationConfig {
    * @return An AuthenticationProvider that can be used to authenticate users.
    */
   @Bean
-  AuthenticationProvider authenticationProvider() {
+  AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
     UserDetailsService userDetailsService = userDetailsService();
     DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
-    authProvider.setPasswordEncoder(passwordEncoder());
+    authProvider.setPasswordEncoder(passwordEncoder);
     authProvider.setHideUserNotFoundExceptions(false); // To throw UsernameNotFoundException
     authProvider.setPostAuthenticationChecks(user -> {
       if (user instanceof User appUser) {
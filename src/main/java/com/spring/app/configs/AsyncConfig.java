@@ -1,22 +1,54 @@
 package com.spring.app.configs;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.NonNull;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import com.spring.app.configs.properties.AsyncProperties;
+import com.spring.app.configs.properties.BulkImportProperties;
+import com.spring.app.configs.properties.ExecutorProperties;
+import com.spring.app.configs.properties.PasswordHashingProperties;
+import com.spring.app.enums.ERejectionPolicy;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 import java.util.concurrent.Executor;
 
+/**
+ * Executors for {@code @Async} and background work, plus the
+ * {@code @Scheduled} pool.
+ *
+ * <p>
+ * Each executor records {@code executor.task.wait} and
+ * {@code executor.task.execution} through {@link InstrumentedTaskDecorator}
+ * and counts {@code executor.rejected} with the policy from
+ * {@code app.executor.rejection-policy}. Active threads, pool size and queue
+ * depth of the thread pools are published by Spring Boot's executor metrics
+ * ({@code executor.active}, {@code executor.queued}, ...).
+ */
 @Configuration
 @EnableAsync
 @RequiredArgsConstructor
 public class AsyncConfig {
 
   private final AsyncProperties asyncProperties;
+  private final BulkImportProperties bulkImportProperties;
+  private final PasswordHashingProperties passwordHashingProperties;
+  private final ExecutorProperties executorProperties;
+  private final MeterRegistry meterRegistry;
+  private final Environment environment;
 
   private final static String TASK_THREAD_NAME_PREFIX = "ASYNC-TASK-";
 
@@ -25,30 +57,193 @@ public class AsyncConfig {
   private final static int EMAIL_QUEUE_CAPACITY = 10;
   private final static String EMAIL_THREAD_NAME_PREFIX = "EMAIL-TASK-";
 
+  private final static int AUTH_EVENT_CORE_POOL_SIZE = 2;
+  private final static int AUTH_EVENT_MAX_POOL_SIZE = 4;
+  private final static int AUTH_EVENT_QUEUE_CAPACITY = 1000;
+  private final static String AUTH_EVENT_THREAD_NAME_PREFIX = "AUTH-EVENT-";
+
+  private final static int BULK_IMPORT_QUEUE_CAPACITY = 2;
+  private final static String BULK_IMPORT_THREAD_NAME_PREFIX = "BULK-IMPORT-";
+  private final static String BULK_IMPORT_HASH_THREAD_NAME_PREFIX = "BULK-IMPORT-HASH-";
+
+  private final static String PASSWORD_HASH_THREAD_NAME_PREFIX = "PASSWORD-HASH-";
+
+  private final static String SCHEDULER_NAME = "taskScheduler";
+
+  private final static TaskDecorator NO_DECORATION = runnable -> runnable;
+
+  /**
+   * General @Async executor. With {@code spring.threads.virtual.enabled} each
+   * task runs on its own virtual thread, see {@link #virtualThreadExecutor}.
+   */
   @Bean(name = "taskExecutor")
   Executor taskExecutor() {
-    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-
     final int TASK_CORE_POOL_SIZE = asyncProperties.getCoreSize();
     final int TASK_MAX_POOL_SIZE = asyncProperties.getMaxSize();
     final int TASK_QUEUE_CAPACITY = asyncProperties.getQueueCapacity();
 
+    if (Threading.VIRTUAL.isActive(environment)) {
+      return virtualThreadExecutor("taskExecutor", TASK_THREAD_NAME_PREFIX, TASK_MAX_POOL_SIZE + TASK_QUEUE_CAPACITY);
+    }
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
     executor.setCorePoolSize(TASK_CORE_POOL_SIZE);
     executor.setMaxPoolSize(TASK_MAX_POOL_SIZE);
     executor.setQueueCapacity(TASK_QUEUE_CAPACITY);
     executor.setThreadNamePrefix(TASK_THREAD_NAME_PREFIX);
+    instrument(executor, "taskExecutor", new SecurityContextTaskDecorator());
     executor.initialize();
     return executor;
   }
 
   @Bean(name = "emailExecutor")
   Executor emailExecutor() {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      return virtualThreadExecutor("emailExecutor", EMAIL_THREAD_NAME_PREFIX,
+          EMAIL_MAX_POOL_SIZE + EMAIL_QUEUE_CAPACITY);
+    }
+
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setCorePoolSize(EMAIL_CORE_POOL_SIZE);
     executor.setMaxPoolSize(EMAIL_MAX_POOL_SIZE);
     executor.setQueueCapacity(EMAIL_QUEUE_CAPACITY);
     executor.setThreadNamePrefix(EMAIL_THREAD_NAME_PREFIX);
+    instrument(executor, "emailExecutor", new SecurityContextTaskDecorator());
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Runs the after-commit auth event listeners
+   * ({@link com.spring.app.modules.auth.listeners.AuthEventListener}). A
+   * rejection would surface in the committing request after its transaction
+   * has committed, so this executor does not reject: a full pool runs the
+   * listener on the caller (CALLER_RUNS by default, still counted in
+   * {@code executor.rejected}), and in virtual-thread mode it has no
+   * concurrency limit.
+   */
+  @Bean(name = "authEventExecutor")
+  Executor authEventExecutor() {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(AUTH_EVENT_THREAD_NAME_PREFIX);
+      executor.setVirtualThreads(true);
+      executor.setTaskDecorator(new InstrumentedTaskDecorator("authEventExecutor", meterRegistry,
+          new SecurityContextTaskDecorator()));
+      return executor;
+    }
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(AUTH_EVENT_CORE_POOL_SIZE);
+    executor.setMaxPoolSize(AUTH_EVENT_MAX_POOL_SIZE);
+    executor.setQueueCapacity(AUTH_EVENT_QUEUE_CAPACITY);
+    executor.setThreadNamePrefix(AUTH_EVENT_THREAD_NAME_PREFIX);
+    instrument(executor, "authEventExecutor", new SecurityContextTaskDecorator());
     executor.initialize();
     return executor;
   }
-}
\ No newline at end of file
+
+  /**
+   * Runs bulk import jobs one at a time; further uploads are rejected once a
+   * couple are waiting.
+   */
+  @Bean(name = "bulkImportExecutor")
+  Executor bulkImportExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(BULK_IMPORT_QUEUE_CAPACITY);
+    executor.setThreadNamePrefix(BULK_IMPORT_THREAD_NAME_PREFIX);
+    instrument(executor, "bulkImportExecutor", NO_DECORATION);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Hashes bulk import passwords. The queue holds one chunk; when it is full
+   * the import thread hashes itself (CALLER_RUNS by default), which throttles
+   * reading the file.
+   */
+  @Bean(name = "bulkImportHashExecutor")
+  Executor bulkImportHashExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(bulkImportProperties.getHashThreads());
+    executor.setMaxPoolSize(bulkImportProperties.getHashThreads());
+    executor.setQueueCapacity(bulkImportProperties.getChunkSize());
+    executor.setThreadNamePrefix(BULK_IMPORT_HASH_THREAD_NAME_PREFIX);
+    instrument(executor, "bulkImportHashExecutor", NO_DECORATION);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Runs interactive password hashing (login, register, reset, OAuth2 sign-up)
+   * for {@link com.spring.app.common.security.BoundedPasswordEncoder}. Fixed
+   * size with a bounded queue; a full queue rejects instead of growing.
+   */
+  @Bean(name = "passwordHashExecutor")
+  ThreadPoolTaskExecutor passwordHashExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(passwordHashingProperties.getThreads());
+    executor.setMaxPoolSize(passwordHashingProperties.getThreads());
+    executor.setQueueCapacity(passwordHashingProperties.getQueueCapacity());
+    executor.setThreadNamePrefix(PASSWORD_HASH_THREAD_NAME_PREFIX);
+    instrument(executor, "passwordHashExecutor", NO_DECORATION);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Pool for {@code @Scheduled} jobs, built from
+   * {@code spring.task.scheduling.*}. Only a platform pool is defined here; in
+   * virtual-thread mode Spring Boot's scheduler is used. Per-job run time is
+   * already recorded by Spring as {@code tasks.scheduled.execution}; the pool
+   * itself shows up under {@code executor.*} and rejections (only possible
+   * during shutdown) are counted.
+   */
+  @Bean(name = SCHEDULER_NAME)
+  @ConditionalOnThreading(Threading.PLATFORM)
+  ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+    ThreadPoolTaskScheduler scheduler = builder.build();
+    scheduler.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(SCHEDULER_NAME,
+        executorProperties.rejectionPolicyFor(SCHEDULER_NAME), meterRegistry));
+    return scheduler;
+  }
+
+  private void instrument(ThreadPoolTaskExecutor executor, String name, TaskDecorator taskDecorator) {
+    executor.setTaskDecorator(new InstrumentedTaskDecorator(name, meterRegistry, taskDecorator));
+    executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(name,
+        executorProperties.rejectionPolicyFor(name), meterRegistry));
+  }
+
+  /**
+   * Starts a virtual thread per task. The concurrency limit equals the pool
+   * size plus queue capacity of the platform executor it replaces, and tasks
+   * beyond it are rejected rather than queued, so admission stays the same.
+   * The rejection policy is therefore always ABORT here; rejections are still
+   * counted. CPU-bound executors (bulk import, password hashing) stay on
+   * platform threads.
+   */
+  private SimpleAsyncTaskExecutor virtualThreadExecutor(String name, String threadNamePrefix, int concurrencyLimit) {
+    Counter rejectedCounter = CountingRejectedExecutionHandler.rejectedCounter(name, ERejectionPolicy.ABORT,
+        meterRegistry);
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix) {
+      // execute(Runnable) and submit(...) both end up here.
+      @Override
+      @SuppressWarnings("deprecation")
+      public void execute(@NonNull Runnable task, long startTimeout) {
+        try {
+          super.execute(task, startTimeout);
+        } catch (TaskRejectedException e) {
+          rejectedCounter.increment();
+          throw e;
+        }
+      }
+    };
+    executor.setVirtualThreads(true);
+    executor.setConcurrencyLimit(concurrencyLimit);
+    executor.setRejectTasksWhenLimitReached(true);
+    executor.setTaskDecorator(new InstrumentedTaskDecorator(name, meterRegistry, new SecurityContextTaskDecorator()));
+    return executor;
+  }
+}
@@ -25,7 +25,7 @@ public class CacheConfig {
   private final CacheProperties cacheProperties;
 
   private static final int USERS_CACHE_TTL_MINUTES = 10;
-  private static final int TOKENS_CACHE_TTL_MINUTES = 5;
+  public static final int TOKENS_CACHE_TTL_MINUTES = 5;
 
   // Cache names
   public static final String USERS_CACHE = "users";
@@ -0,0 +1,48 @@
+package com.spring.app.configs;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import com.spring.app.enums.ERejectionPolicy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts rejections in {@code executor.rejected} (tagged with the executor
+ * name and policy) before applying the configured policy, so a full pool shows
+ * up on dashboards even when the caller handles the rejection.
+ */
+@Slf4j
+public class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+  private final String executorName;
+  private final ERejectionPolicy policy;
+  private final RejectedExecutionHandler delegate;
+  private final Counter rejectedCounter;
+
+  public CountingRejectedExecutionHandler(String executorName, ERejectionPolicy policy,
+      MeterRegistry meterRegistry) {
+    this.executorName = executorName;
+    this.policy = policy;
+    this.delegate = policy.toHandler();
+    this.rejectedCounter = rejectedCounter(executorName, policy, meterRegistry);
+  }
+
+  static Counter rejectedCounter(String executorName, ERejectionPolicy policy, MeterRegistry meterRegistry) {
+    return Counter.builder("executor.rejected")
+        .description("Tasks rejected because the executor was saturated or shut down")
+        .tag("name", executorName)
+        .tag("policy", policy.name())
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+    rejectedCounter.increment();
+    log.warn("Executor {} saturated (active={}, queued={}), applying {}", executorName,
+        executor.getActiveCount(), executor.getQueue().size(), policy);
+    delegate.rejectedExecution(task, executor);
+  }
+}
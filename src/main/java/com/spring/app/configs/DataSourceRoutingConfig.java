@@ -0,0 +1,106 @@
+package com.spring.app.configs;
+
+import java.sql.Connection;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.spring.app.configs.datasource.ReadWriteRoutingDataSource;
+import com.spring.app.configs.datasource.ReadYourWritesTracker;
+import com.spring.app.configs.properties.DataSourceRoutingProperties;
+import com.spring.app.enums.EDataSourceType;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DataSourceRoutingConfig {
+
+  private static final String PRIMARY_POOL_NAME = "primary";
+  private static final String REPLICA_POOL_NAME = "replica";
+
+  private final DataSourceRoutingProperties routingProperties;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Connection settings of the replica, bound from
+   * {@code app.datasource.replica}. Not an autowire candidate so that
+   * auto-configuration keeps using the {@code spring.datasource} properties.
+   */
+  @Bean(autowireCandidate = false)
+  @ConfigurationProperties(prefix = "app.datasource.replica")
+  DataSourceProperties replicaDataSourceProperties() {
+    return new DataSourceProperties();
+  }
+
+  /**
+   * The primary (read-write) Hikari pool, built from {@code spring.datasource}
+   * with pool tuning from {@code spring.datasource.hikari}.
+   */
+  @Bean(autowireCandidate = false)
+  @ConfigurationProperties(prefix = "spring.datasource.hikari")
+  HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    return createPool(dataSourceProperties, PRIMARY_POOL_NAME);
+  }
+
+  /**
+   * The replica (read-only) Hikari pool, tuned through
+   * {@code app.datasource.replica.hikari}.
+   */
+  @Bean(autowireCandidate = false)
+  @ConfigurationProperties(prefix = "app.datasource.replica.hikari")
+  HikariDataSource replicaDataSource() {
+    return createPool(replicaDataSourceProperties(), REPLICA_POOL_NAME);
+  }
+
+  @Bean
+  ReadYourWritesTracker readYourWritesTracker() {
+    return new ReadYourWritesTracker(routingProperties.getStickinessWindow());
+  }
+
+  /**
+   * The application-wide DataSource used by JPA, JdbcTemplate and Flyway.
+   *
+   * <p>
+   * The lazy proxy defers fetching a physical connection until the first
+   * statement, by which time the transaction's read-only flag is known and the
+   * routing DataSource can pick the primary or the replica pool.
+   */
+  @Bean
+  @Primary
+  DataSource dataSource(DataSourceProperties dataSourceProperties) {
+    ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(readYourWritesTracker());
+    routingDataSource.setTargetDataSources(Map.of(
+        EDataSourceType.PRIMARY, primaryDataSource(dataSourceProperties),
+        EDataSourceType.REPLICA, replicaDataSource()));
+    routingDataSource.setDefaultTargetDataSource(primaryDataSource(dataSourceProperties));
+    routingDataSource.afterPropertiesSet();
+
+    LazyConnectionDataSourceProxy lazyDataSource = new LazyConnectionDataSourceProxy();
+    lazyDataSource.setTargetDataSource(routingDataSource);
+    lazyDataSource.setDefaultAutoCommit(true);
+    lazyDataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+    lazyDataSource.afterPropertiesSet();
+    return lazyDataSource;
+  }
+
+  private HikariDataSource createPool(DataSourceProperties properties, String poolName) {
+    HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    pool.setPoolName(poolName);
+    // Exposes hikaricp.connections.* per pool, tagged pool=primary|replica.
+    pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    return pool;
+  }
+}
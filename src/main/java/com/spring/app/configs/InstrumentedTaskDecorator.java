@@ -0,0 +1,52 @@
+package com.spring.app.configs;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records how long a task waited between submission and start
+ * ({@code executor.task.wait}) and how long it ran
+ * ({@code executor.task.execution}), tagged with the executor name. Wraps
+ * another decorator so both apply to the same task.
+ */
+public class InstrumentedTaskDecorator implements TaskDecorator {
+
+  private final TaskDecorator delegate;
+  private final Timer waitTimer;
+  private final Timer executionTimer;
+
+  public InstrumentedTaskDecorator(String executorName, MeterRegistry meterRegistry, TaskDecorator delegate) {
+    this.delegate = delegate;
+    this.waitTimer = Timer.builder("executor.task.wait")
+        .description("Time between task submission and start")
+        .tag("name", executorName)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.executionTimer = Timer.builder("executor.task.execution")
+        .description("Task run time")
+        .tag("name", executorName)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Override
+  @NonNull
+  public Runnable decorate(@NonNull Runnable runnable) {
+    Runnable decorated = delegate.decorate(runnable);
+    long submittedAt = System.nanoTime();
+    return () -> {
+      long startedAt = System.nanoTime();
+      waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+      try {
+        decorated.run();
+      } finally {
+        executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+      }
+    };
+  }
+}
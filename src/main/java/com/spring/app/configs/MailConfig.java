@@ -4,7 +4,6 @@ import java.util.Properties;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 import com.spring.app.configs.properties.MailProperties;
@@ -19,14 +18,16 @@ public class MailConfig {
 
   /**
    * Creates a JavaMailSender bean that is used by the application for sending
-   * e-mails.
+   * e-mails. Exposed as {@link JavaMailSenderImpl} so
+   * {@link com.spring.app.shared.services.SmtpTransportPool} can reuse its
+   * session and credentials.
    * The configuration is done using the properties from the
    * application.properties/yml file.
    * 
    * @return the configured JavaMailSender object
    */
   @Bean
-  JavaMailSender javaMailSender() {
+  JavaMailSenderImpl javaMailSender() {
     JavaMailSenderImpl sender = new JavaMailSenderImpl();
     sender.setHost(mailProperties.getHost());
     sender.setPort(mailProperties.getPort());
@@ -17,7 +17,9 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import com.spring.app.constants.ApplicationConstants;
 import com.spring.app.constants.WhitelistUrlConstant;
+import com.spring.app.enums.ERole;
 import com.spring.app.exceptions.CustomAuthenticationEntryPoint;
 import com.spring.app.filter.JwtAuthenticatorFilter;
 import com.spring.app.filter.RateLimitFilter;
@@ -104,6 +106,7 @@ public class SecurityConfig {
     auth
       .requestMatchers(WhitelistUrlConstant.PUBLIC_URLS).permitAll()
       .requestMatchers(HttpMethod.GET, WhitelistUrlConstant.PUBLIC_GET_URLS).permitAll()
+      .requestMatchers(ApplicationConstants.ADMIN_BASE_PATH + "/**").hasRole(ERole.ADMIN.name())
       .anyRequest().authenticated();
   }
 
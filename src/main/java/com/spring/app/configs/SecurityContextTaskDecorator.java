@@ -0,0 +1,21 @@
+package com.spring.app.configs;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Runs async tasks with the {@code SecurityContext} of the thread that
+ * submitted them, so the auditor and {@code @PreAuthorize} checks see the same
+ * principal. Needed for virtual threads in particular, which never inherit
+ * thread-locals from a pooled worker.
+ */
+public class SecurityContextTaskDecorator implements TaskDecorator {
+
+  @Override
+  @NonNull
+  public Runnable decorate(@NonNull Runnable runnable) {
+    return new DelegatingSecurityContextRunnable(runnable, SecurityContextHolder.getContext());
+  }
+}
@@ -0,0 +1,92 @@
+package com.spring.app.configs;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.lang.NonNull;
+
+import com.spring.app.configs.datasource.SqlExecutionContext;
+import com.spring.app.configs.datasource.SqlMetricsListener;
+import com.spring.app.configs.properties.SqlMetricsProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the application DataSource with datasource-proxy so every statement is
+ * timed, and tags statements with the Spring Data repository method that
+ * issued them.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sql-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsConfig {
+
+  private static final String APPLICATION_DATA_SOURCE = "dataSource";
+
+  @Bean
+  SqlMetricsListener sqlMetricsListener(MeterRegistry meterRegistry, SqlMetricsProperties sqlMetricsProperties) {
+    return new SqlMetricsListener(meterRegistry, sqlMetricsProperties);
+  }
+
+  /**
+   * Only the bean named {@code dataSource} is wrapped; with read/write routing
+   * enabled the underlying pools stay raw so a single proxy sees every
+   * statement once.
+   */
+  @Bean
+  static BeanPostProcessor sqlMetricsDataSourcePostProcessor(ObjectProvider<SqlMetricsListener> listener) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+            && APPLICATION_DATA_SOURCE.equals(beanName)) {
+          return ProxyDataSourceBuilder.create(dataSource)
+              .name(beanName)
+              .listener(listener.getObject())
+              .build();
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  static BeanPostProcessor repositoryMethodTaggingPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+          factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+              (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                  repositoryMethodInterceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+      }
+    };
+  }
+
+  private static MethodInterceptor repositoryMethodInterceptor(String repositoryName) {
+    Map<Method, String> names = new ConcurrentHashMap<>();
+    return invocation -> {
+      String repositoryMethod = names.computeIfAbsent(invocation.getMethod(),
+          method -> repositoryName + "." + method.getName());
+      String previous = SqlExecutionContext.enterRepositoryMethod(repositoryMethod);
+      try {
+        return invocation.proceed();
+      } finally {
+        SqlExecutionContext.exitRepositoryMethod(previous);
+      }
+    };
+  }
+}
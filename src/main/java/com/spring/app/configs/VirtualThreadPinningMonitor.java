@@ -0,0 +1,89 @@
+package com.spring.app.configs;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams the JFR events that report virtual threads pinned to their carrier
+ * (blocking inside {@code synchronized} or a native frame) into metrics.
+ *
+ * <p>
+ * {@code jvm.threads.virtual.pinned} times every pinned park longer than
+ * {@value #PINNED_THRESHOLD_MILLIS} ms, and
+ * {@code jvm.threads.virtual.submit.failed} counts virtual threads that could
+ * not be scheduled. The first non-JDK frame of each pinning stack is logged at DEBUG
+ * to find the offending monitor.
+ */
+@Component
+@Slf4j
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+  private static final long PINNED_THRESHOLD_MILLIS = 20;
+
+  private final Timer pinnedTimer;
+  private final Counter submitFailedCounter;
+  private RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+    this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+        .description("Virtual threads blocked while pinned to their carrier thread")
+        .register(meterRegistry);
+    this.submitFailedCounter = Counter.builder("jvm.threads.virtual.submit.failed")
+        .description("Virtual threads that could not be started or unparked")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void start() {
+    stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(PINNED_THRESHOLD_MILLIS)).withStackTrace();
+    stream.enable(SUBMIT_FAILED_EVENT);
+    stream.onEvent(PINNED_EVENT, this::onPinned);
+    stream.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailedCounter.increment());
+    stream.startAsync();
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinnedTimer.record(event.getDuration());
+    if (log.isDebugEnabled() && event.getStackTrace() != null) {
+      event.getStackTrace().getFrames().stream()
+          .filter(frame -> frame.isJavaFrame() && !isJdkFrame(frame))
+          .findFirst()
+          .ifPresent(frame -> log.debug("Virtual thread pinned for {} ms at {}.{}", event.getDuration().toMillis(),
+              frame.getMethod().getType().getName(), frame.getMethod().getName()));
+    }
+  }
+
+  private static boolean isJdkFrame(RecordedFrame frame) {
+    String type = frame.getMethod().getType().getName();
+    return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+  }
+
+  @Override
+  public void stop() {
+    if (stream != null) {
+      stream.close();
+      stream = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+}
@@ -0,0 +1,57 @@
+package com.spring.app.configs.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.spring.app.enums.EDataSourceType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the replica and
+ * everything else to the primary.
+ *
+ * <p>
+ * Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so
+ * the physical connection is only fetched once the transaction's read-only
+ * flag has been bound. Reads of a principal that committed a write within the
+ * stickiness window stay on the primary. Anonymous writes carry no principal;
+ * the auth flows record those by email and
+ * {@link com.spring.app.modules.auth.repositories.UserRepositoryCustomImpl}
+ * checks it on the login lookup.
+ */
+@RequiredArgsConstructor
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  private final ReadYourWritesTracker readYourWritesTracker;
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    String principal = currentPrincipal();
+
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (principal != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+        readYourWritesTracker.recordWriteAfterCommit(principal);
+      }
+      return EDataSourceType.PRIMARY;
+    }
+
+    if (principal != null && readYourWritesTracker.isSticky(principal)) {
+      return EDataSourceType.PRIMARY;
+    }
+    return EDataSourceType.REPLICA;
+  }
+
+  private String currentPrincipal() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    return authentication.getName();
+  }
+}
@@ -0,0 +1,71 @@
+package com.spring.app.configs.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Remembers which principals committed a write recently. Reads of those
+ * principals are pinned to the primary until the stickiness window elapses.
+ * Keys are user emails: the authenticated principal name, or the email an
+ * anonymous auth flow (register, activate, reset, OAuth2 sign-up) wrote.
+ *
+ * <p>
+ * State is kept per instance; with several instances behind a load balancer
+ * the guarantee holds for requests that land on the instance that served the
+ * write.
+ */
+public class ReadYourWritesTracker {
+
+  private final ConcurrentHashMap<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+  private final long windowNanos;
+
+  public ReadYourWritesTracker(Duration stickinessWindow) {
+    this.windowNanos = stickinessWindow.toNanos();
+  }
+
+  public void recordWrite(String principal) {
+    lastWriteNanos.put(principal, System.nanoTime());
+  }
+
+  /**
+   * Records the write once the surrounding transaction commits, or right away
+   * outside a transaction.
+   */
+  public void recordWriteAfterCommit(String principal) {
+    if (principal == null) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      recordWrite(principal);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        recordWrite(principal);
+      }
+    });
+  }
+
+  public boolean isSticky(String principal) {
+    Long writtenAt = lastWriteNanos.get(principal);
+    if (writtenAt == null) {
+      return false;
+    }
+    if (System.nanoTime() - writtenAt < windowNanos) {
+      return true;
+    }
+    lastWriteNanos.remove(principal, writtenAt);
+    return false;
+  }
+
+  @Scheduled(fixedDelay = 60_000)
+  public void evictExpired() {
+    long now = System.nanoTime();
+    lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+  }
+}
@@ -0,0 +1,57 @@
+package com.spring.app.configs.datasource;
+
+/**
+ * Thread-bound context read by {@link SqlMetricsListener}: the repository
+ * method currently executing and the statement count of the current HTTP
+ * request.
+ */
+public final class SqlExecutionContext {
+
+  public static final String NO_REPOSITORY = "none";
+
+  private static final ThreadLocal<String> REPOSITORY_METHOD = new ThreadLocal<>();
+  private static final ThreadLocal<int[]> REQUEST_STATEMENTS = new ThreadLocal<>();
+
+  private SqlExecutionContext() {
+  }
+
+  /**
+   * Binds the repository method and returns the previous binding so nested
+   * calls can restore it.
+   */
+  public static String enterRepositoryMethod(String repositoryMethod) {
+    String previous = REPOSITORY_METHOD.get();
+    REPOSITORY_METHOD.set(repositoryMethod);
+    return previous;
+  }
+
+  public static void exitRepositoryMethod(String previous) {
+    if (previous == null) {
+      REPOSITORY_METHOD.remove();
+    } else {
+      REPOSITORY_METHOD.set(previous);
+    }
+  }
+
+  public static String currentRepositoryMethod() {
+    String repositoryMethod = REPOSITORY_METHOD.get();
+    return repositoryMethod != null ? repositoryMethod : NO_REPOSITORY;
+  }
+
+  public static void startRequest() {
+    REQUEST_STATEMENTS.set(new int[1]);
+  }
+
+  public static void incrementStatements(int statements) {
+    int[] counter = REQUEST_STATEMENTS.get();
+    if (counter != null) {
+      counter[0] += statements;
+    }
+  }
+
+  public static int endRequest() {
+    int[] counter = REQUEST_STATEMENTS.get();
+    REQUEST_STATEMENTS.remove();
+    return counter != null ? counter[0] : 0;
+  }
+}
@@ -0,0 +1,113 @@
+package com.spring.app.configs.datasource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.spring.app.configs.properties.SqlMetricsProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Times every JDBC statement into {@code db.statement}, tagged with the
+ * normalized SQL, the calling repository method and the operation, counts
+ * statements towards the current HTTP request and writes statements above the
+ * slow-query threshold to the {@code SLOW_SQL} logger.
+ *
+ * <p>
+ * Bind values are never logged, only their Java types.
+ */
+public class SqlMetricsListener implements QueryExecutionListener {
+
+  public static final String SLOW_SQL_LOGGER = "SLOW_SQL";
+
+  private static final Logger slowSqlLog = LoggerFactory.getLogger(SLOW_SQL_LOGGER);
+
+  private static final String START_NANOS = SqlMetricsListener.class.getName() + ".startNanos";
+  private static final String OTHER_STATEMENT = "other";
+
+  private final MeterRegistry meterRegistry;
+  private final SqlMetricsProperties properties;
+  private final SqlStatementNormalizer normalizer = new SqlStatementNormalizer();
+  private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+  private record TimerKey(String statement, String repositoryMethod, boolean success) {
+  }
+
+  public SqlMetricsListener(MeterRegistry meterRegistry, SqlMetricsProperties properties) {
+    this.meterRegistry = meterRegistry;
+    this.properties = properties;
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    execInfo.addCustomValue(START_NANOS, System.nanoTime());
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    Long startNanos = execInfo.getCustomValue(START_NANOS, Long.class);
+    if (startNanos == null || queryInfoList.isEmpty()) {
+      return;
+    }
+    long elapsedNanos = System.nanoTime() - startNanos;
+
+    String repositoryMethod = SqlExecutionContext.currentRepositoryMethod();
+    String statement = normalizer.normalize(queryInfoList.getFirst().getQuery());
+
+    timerFor(statement, repositoryMethod, execInfo.isSuccess()).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    SqlExecutionContext.incrementStatements(queryInfoList.size());
+
+    if (elapsedNanos >= properties.getSlowQueryThreshold().toNanos() && slowSqlLog.isInfoEnabled()) {
+      slowSqlLog.info("took={}ms repository={} success={} batch={} params={} sql={}",
+          TimeUnit.NANOSECONDS.toMillis(elapsedNanos), repositoryMethod, execInfo.isSuccess(),
+          execInfo.isBatch() ? execInfo.getBatchSize() : 0, parameterShape(queryInfoList.getFirst()), statement);
+    }
+  }
+
+  private Timer timerFor(String statement, String repositoryMethod, boolean success) {
+    TimerKey key = new TimerKey(statement, repositoryMethod, success);
+    Timer timer = timers.get(key);
+    if (timer != null) {
+      return timer;
+    }
+    if (timers.size() >= properties.getMaxStatementSeries()) {
+      key = new TimerKey(OTHER_STATEMENT, repositoryMethod, success);
+    }
+    return timers.computeIfAbsent(key, k -> Timer.builder("db.statement")
+        .description("JDBC statement execution time")
+        .tag("statement", k.statement())
+        .tag("operation", SqlStatementNormalizer.operationOf(k.statement()))
+        .tag("repository", k.repositoryMethod())
+        .tag("outcome", k.success() ? "success" : "error")
+        .register(meterRegistry));
+  }
+
+  private static String parameterShape(QueryInfo queryInfo) {
+    List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+    if (parametersList.isEmpty()) {
+      return "[]";
+    }
+
+    StringJoiner shape = new StringJoiner(", ", "[", "]");
+    for (ParameterSetOperation operation : parametersList.getFirst()) {
+      Object[] args = operation.getArgs();
+      if ("setNull".equals(operation.getMethod().getName()) || args.length < 2 || args[1] == null) {
+        shape.add("null");
+      } else {
+        shape.add(args[1].getClass().getSimpleName());
+      }
+    }
+    return shape.toString();
+  }
+}
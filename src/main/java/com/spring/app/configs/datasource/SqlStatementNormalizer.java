@@ -0,0 +1,50 @@
+package com.spring.app.configs.datasource;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL to a stable shape usable as a metric tag: literals become
+ * {@code ?}, IN lists collapse to a single placeholder and whitespace is
+ * squeezed. Hibernate emits a small, fixed set of statements, so results are
+ * memoized by the raw SQL string.
+ */
+public class SqlStatementNormalizer {
+
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+  private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private static final int MAX_CACHED_STATEMENTS = 2048;
+
+  private final Map<String, String> cache = new ConcurrentHashMap<>();
+
+  public String normalize(String sql) {
+    String normalized = cache.get(sql);
+    if (normalized != null) {
+      return normalized;
+    }
+
+    normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+    normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+    normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+    normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+
+    if (cache.size() < MAX_CACHED_STATEMENTS) {
+      cache.put(sql, normalized);
+    }
+    return normalized;
+  }
+
+  public static String operationOf(String normalizedSql) {
+    int end = normalizedSql.indexOf(' ');
+    String keyword = (end < 0 ? normalizedSql : normalizedSql.substring(0, end)).toLowerCase(Locale.ROOT);
+    return switch (keyword) {
+      case "select", "insert", "update", "delete", "call" -> keyword;
+      default -> "other";
+    };
+  }
+}
@@ -0,0 +1,37 @@
+package com.spring.app.configs.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+  private boolean enabled = true;
+
+  /**
+   * Events buffered between the request threads and the writer, rounded up to a
+   * power of two. Events recorded while the buffer is full are dropped.
+   */
+  @Min(value = 2, message = "Buffer capacity must be at least 2")
+  private int bufferCapacity = 8192;
+
+  @Min(value = 1, message = "Batch size must be at least 1")
+  private int batchSize = 256;
+
+  /**
+   * How long the writer sleeps when the buffer is empty.
+   */
+  private Duration flushInterval = Duration.ofMillis(200);
+
+  /**
+   * Upper bound for writing the remaining events on shutdown.
+   */
+  private Duration shutdownTimeout = Duration.ofSeconds(5);
+}
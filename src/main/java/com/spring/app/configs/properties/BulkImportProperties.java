@@ -0,0 +1,36 @@
+package com.spring.app.configs.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.bulk-import")
+public class BulkImportProperties {
+
+  /**
+   * Rows validated, de-duplicated against the database, hashed and inserted
+   * together. Keep it a multiple of {@code hibernate.jdbc.batch_size}.
+   */
+  @Min(value = 1, message = "Chunk size must be at least 1")
+  private int chunkSize = 500;
+
+  /**
+   * Threads hashing passwords in parallel. Defaults to half the CPUs so an
+   * import does not starve request threads of CPU.
+   */
+  @Min(value = 1, message = "Hash threads must be at least 1")
+  private int hashThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+  @Min(value = 1, message = "Max reported errors must be at least 1")
+  private int maxReportedErrors = 1000;
+
+  /**
+   * How long a finished job's report stays available.
+   */
+  @Min(value = 1, message = "Report retention must be at least 1 minute")
+  private int reportRetentionMinutes = 60;
+}
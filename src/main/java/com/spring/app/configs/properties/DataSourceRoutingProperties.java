@@ -0,0 +1,27 @@
+package com.spring.app.configs.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+  /**
+   * Route read-only transactions to the replica configured under
+   * {@code app.datasource.replica}. When disabled the single
+   * {@code spring.datasource} pool serves everything.
+   */
+  private boolean enabled = false;
+
+  /**
+   * How long reads of a user stay on the primary after that user committed a
+   * write, so replication lag never hides their own changes.
+   */
+  private Duration stickinessWindow = Duration.ofSeconds(5);
+}
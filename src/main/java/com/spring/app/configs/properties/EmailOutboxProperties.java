@@ -0,0 +1,44 @@
+package com.spring.app.configs.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.email-outbox")
+public class EmailOutboxProperties {
+
+  /**
+   * Delay between polls when the previous poll found nothing to send.
+   */
+  private Duration pollInterval = Duration.ofSeconds(1);
+
+  @Min(value = 1, message = "Batch size must be at least 1")
+  private int batchSize = 50;
+
+  /**
+   * How long a claimed row is reserved for its worker before another worker
+   * may retry it.
+   */
+  private Duration lease = Duration.ofMinutes(2);
+
+  @Min(value = 1, message = "Max attempts must be at least 1")
+  private int maxAttempts = 8;
+
+  /**
+   * Delay before the first retry; doubled per attempt up to maxBackoff.
+   */
+  private Duration initialBackoff = Duration.ofSeconds(30);
+
+  private Duration maxBackoff = Duration.ofHours(1);
+
+  /**
+   * Sent rows older than this are deleted by the nightly cleanup.
+   */
+  private Duration sentRetention = Duration.ofDays(7);
+}
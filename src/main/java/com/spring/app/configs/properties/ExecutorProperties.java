@@ -0,0 +1,38 @@
+package com.spring.app.configs.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.spring.app.enums.ERejectionPolicy;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.executor")
+public class ExecutorProperties {
+
+  /**
+   * Rejection policy per executor bean name. The defaults are what the callers
+   * expect: the login path turns an aborted password hash into a 503 and the
+   * bulk import rejects a second upload, so change those with care. The auth
+   * event listeners run after commit, where an abort would fail a request
+   * whose changes are already committed, so keep authEventExecutor off ABORT.
+   * Executors not listed here abort.
+   */
+  private Map<String, ERejectionPolicy> rejectionPolicy = new HashMap<>(Map.of(
+      "taskExecutor", ERejectionPolicy.ABORT,
+      "emailExecutor", ERejectionPolicy.ABORT,
+      "authEventExecutor", ERejectionPolicy.CALLER_RUNS,
+      "bulkImportExecutor", ERejectionPolicy.ABORT,
+      "bulkImportHashExecutor", ERejectionPolicy.CALLER_RUNS,
+      "passwordHashExecutor", ERejectionPolicy.ABORT,
+      "taskScheduler", ERejectionPolicy.ABORT));
+
+  public ERejectionPolicy rejectionPolicyFor(String executorName) {
+    return rejectionPolicy.getOrDefault(executorName, ERejectionPolicy.ABORT);
+  }
+}
@@ -0,0 +1,30 @@
+package com.spring.app.configs.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.otp")
+public class OtpProperties {
+
+  /**
+   * Wrong guesses allowed per issued OTP; the code is burned on the last one
+   * and a new one has to be requested.
+   */
+  @Min(value = 1, message = "Max attempts must be at least 1")
+  private int maxAttempts = 5;
+
+  /**
+   * After an OTP email is queued and its transaction commits, further send
+   * requests for the same email are dropped for this long; the code already
+   * sent stays valid. A failed delivery ends it early. Keep it shorter than
+   * the OTP lifetime.
+   */
+  private Duration resendCooldown = Duration.ofSeconds(60);
+}
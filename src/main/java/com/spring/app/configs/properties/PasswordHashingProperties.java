@@ -0,0 +1,82 @@
+package com.spring.app.configs.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.spring.app.enums.EPasswordHashAlgorithm;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+
+  /**
+   * Threads allowed to hash passwords concurrently, i.e. the CPU budget for
+   * hashing. Defaults to half of the available processors.
+   */
+  @Min(value = 1, message = "Hashing threads must be at least 1")
+  private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+  /**
+   * Hash requests allowed to wait for a thread; further requests get a 503.
+   */
+  @Min(value = 0, message = "Queue capacity must not be negative")
+  private int queueCapacity = 64;
+
+  /**
+   * Longest time a request waits for its hash, queueing included, before it
+   * gets a 503.
+   */
+  private Duration maxWait = Duration.ofSeconds(2);
+
+  /**
+   * Algorithm for new hashes. Existing hashes of the other algorithm keep
+   * working and are rehashed on the next successful login.
+   */
+  private EPasswordHashAlgorithm algorithm = EPasswordHashAlgorithm.BCRYPT;
+
+  /**
+   * When enabled, the cost is measured at startup and set to the highest value
+   * whose hash time stays within {@code targetDuration}, clamped to the
+   * configured minimum and maximum. Otherwise the minimum is used as-is.
+   */
+  private boolean calibrate = true;
+
+  private Duration targetDuration = Duration.ofMillis(250);
+
+  /**
+   * Hashes within the configured cost range are rewritten on login only when
+   * they are more than this factor cheaper than the calibrated cost. Nodes
+   * calibrate independently, so this band keeps small differences between them
+   * from triggering rehashes.
+   */
+  @DecimalMin(value = "1.0", message = "Rehash tolerance must be at least 1.0")
+  private double rehashTolerance = 2.0;
+
+  @Min(value = 4, message = "BCrypt strength must be at least 4")
+  @Max(value = 31, message = "BCrypt strength must be at most 31")
+  private int bcryptMinStrength = 10;
+
+  @Min(value = 4, message = "BCrypt strength must be at least 4")
+  @Max(value = 31, message = "BCrypt strength must be at most 31")
+  private int bcryptMaxStrength = 14;
+
+  @Min(value = 1, message = "Argon2 memory must be at least 1 KiB")
+  private int argon2MemoryKib = 19_456;
+
+  @Min(value = 1, message = "Argon2 parallelism must be at least 1")
+  private int argon2Parallelism = 1;
+
+  @Min(value = 1, message = "Argon2 iterations must be at least 1")
+  private int argon2MinIterations = 2;
+
+  @Min(value = 1, message = "Argon2 iterations must be at least 1")
+  private int argon2MaxIterations = 10;
+}
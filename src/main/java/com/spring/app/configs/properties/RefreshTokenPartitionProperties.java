@@ -0,0 +1,29 @@
+package com.spring.app.configs.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.refresh-token.partitioning")
+public class RefreshTokenPartitionProperties {
+
+  /**
+   * When enabled, expired refresh tokens are removed by dropping whole
+   * partitions of {@code refresh_tokens} instead of running the row-by-row
+   * cleanup in {@link com.spring.app.shared.services.TokenCleanupService}.
+   */
+  private boolean enabled = false;
+
+  @Min(value = 1, message = "Partition interval must be at least 1 day")
+  private int intervalDays = 1;
+
+  @Min(value = 1, message = "At least one partition must be created ahead of time")
+  private int precreateIntervals = 14;
+
+  @Min(value = 0, message = "Retention days must not be negative")
+  private int retentionDays = 1;
+}
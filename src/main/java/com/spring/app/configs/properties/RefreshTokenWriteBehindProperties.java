@@ -0,0 +1,41 @@
+package com.spring.app.configs.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.refresh-token.write-behind")
+public class RefreshTokenWriteBehindProperties {
+
+  /**
+   * When enabled, new refresh tokens are served from the Redis token cache
+   * straight away and written to MySQL in micro-batches by
+   * {@link com.spring.app.shared.services.RefreshTokenStoreService}.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Longest time a token waits in the queue before its batch is written.
+   */
+  private Duration flushInterval = Duration.ofMillis(50);
+
+  @Min(value = 1, message = "Batch size must be at least 1")
+  private int batchSize = 500;
+
+  /**
+   * Pending writes beyond this are written synchronously by the caller.
+   */
+  @Min(value = 1, message = "Queue capacity must be at least 1")
+  private int queueCapacity = 10_000;
+
+  /**
+   * Upper bound for draining the queue on shutdown.
+   */
+  private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,46 @@
+package com.spring.app.configs.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.mail.pool")
+public class SmtpPoolProperties {
+
+  /**
+   * Authenticated SMTP connections kept open at most.
+   */
+  @Min(value = 1, message = "Max connections must be at least 1")
+  private int maxConnections = 5;
+
+  /**
+   * Idle connections older than this are closed instead of reused, before the
+   * server drops them.
+   */
+  private Duration maxIdle = Duration.ofSeconds(30);
+
+  /**
+   * A connection is closed after this many messages; some providers limit
+   * messages per session.
+   */
+  @Min(value = 1, message = "Max messages per connection must be at least 1")
+  private int maxMessagesPerConnection = 100;
+
+  /**
+   * Upper bound on messages sent per second to the SMTP provider across all
+   * connections of this instance; 0 disables throttling.
+   */
+  @Min(value = 0, message = "Max messages per second must not be negative")
+  private int maxMessagesPerSecond = 10;
+
+  /**
+   * Longest time to wait for a free connection.
+   */
+  private Duration borrowTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,36 @@
+package com.spring.app.configs.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.sql-metrics")
+public class SqlMetricsProperties {
+
+  private boolean enabled = true;
+
+  /**
+   * Statements slower than this are written to the slow-query log.
+   */
+  private Duration slowQueryThreshold = Duration.ofMillis(500);
+
+  /**
+   * A request executing at least this many statements is logged as a likely
+   * N+1 pattern.
+   */
+  @Min(value = 1, message = "Statement warn threshold must be at least 1")
+  private int requestStatementWarnThreshold = 50;
+
+  /**
+   * Upper bound on distinct statement/repository timer series; further
+   * statements are recorded under {@code statement=other}.
+   */
+  @Min(value = 1, message = "Max statement series must be at least 1")
+  private int maxStatementSeries = 500;
+}
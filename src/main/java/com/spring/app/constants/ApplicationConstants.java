@@ -22,6 +22,15 @@ public final class ApplicationConstants {
   public static final String AUTH_BASE_PATH = API_BASE_PATH + "/auth";
   public static final String USER_BASE_PATH = API_BASE_PATH + "/users";
   public static final String FILES_BASE_PATH = API_BASE_PATH + "/files";
+  public static final String ADMIN_BASE_PATH = API_BASE_PATH + "/admin";
+
+  // Pagination
+  public static final int DEFAULT_PAGE_LIMIT = 20;
+  public static final int MAX_PAGE_LIMIT = 100;
+  public static final int MAX_SEARCH_RESULTS = 200;
+  public static final int MIN_SEARCH_LENGTH = 2;
+  public static final int DEFAULT_AUTOCOMPLETE_LIMIT = 10;
+  public static final int MAX_AUTOCOMPLETE_LIMIT = 20;
 
   // Error messages
   public static final String EMAIL_ALREADY_EXISTS = "Email already exists";
@@ -0,0 +1,12 @@
+package com.spring.app.enums;
+
+public enum EAuditEventType {
+  ACCOUNT_REGISTERED,
+  ACCOUNT_ACTIVATED,
+  LOGIN_SUCCESS,
+  LOGIN_FAILURE,
+  LOGOUT,
+  PASSWORD_RESET,
+  TOKEN_REFRESH,
+  RATE_LIMIT_REJECTED
+}
@@ -0,0 +1,6 @@
+package com.spring.app.enums;
+
+public enum EDataSourceType {
+  PRIMARY,
+  REPLICA
+}
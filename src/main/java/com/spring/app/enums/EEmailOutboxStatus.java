@@ -0,0 +1,10 @@
+package com.spring.app.enums;
+
+public enum EEmailOutboxStatus {
+  PENDING,
+  SENT,
+  /**
+   * Gave up after the maximum number of attempts; kept for inspection.
+   */
+  DEAD
+}
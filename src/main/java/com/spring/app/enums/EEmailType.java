@@ -0,0 +1,5 @@
+package com.spring.app.enums;
+
+public enum EEmailType {
+  OTP
+}
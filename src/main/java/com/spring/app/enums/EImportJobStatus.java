@@ -0,0 +1,8 @@
+package com.spring.app.enums;
+
+public enum EImportJobStatus {
+  QUEUED,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
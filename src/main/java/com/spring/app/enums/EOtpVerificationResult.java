@@ -0,0 +1,21 @@
+package com.spring.app.enums;
+
+public enum EOtpVerificationResult {
+  /**
+   * The code matched and has been consumed, unless it was only verified.
+   */
+  VALID,
+  /**
+   * The code did not match; the attempt was counted.
+   */
+  INVALID,
+  /**
+   * No code is outstanding: it expired, was already used or was never issued.
+   */
+  EXPIRED,
+  /**
+   * The code did not match and the attempt limit was reached, so the code was
+   * deleted.
+   */
+  LOCKED
+}
@@ -0,0 +1,16 @@
+package com.spring.app.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum EPasswordHashAlgorithm {
+  BCRYPT("bcrypt"),
+  ARGON2ID("argon2");
+
+  /**
+   * Id written in front of new hashes, e.g. {@code {bcrypt}$2a$12$...}.
+   */
+  @Getter
+  private final String id;
+}
@@ -0,0 +1,36 @@
+package com.spring.app.enums;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * What a thread pool does with a task once its threads and queue are full.
+ */
+public enum ERejectionPolicy {
+  /**
+   * Throws {@code RejectedExecutionException}, surfaced by Spring as
+   * {@code TaskRejectedException}.
+   */
+  ABORT,
+  /**
+   * Runs the task on the submitting thread, which slows the producer down.
+   */
+  CALLER_RUNS,
+  /**
+   * Drops the task.
+   */
+  DISCARD,
+  /**
+   * Drops the oldest queued task and retries the submission.
+   */
+  DISCARD_OLDEST;
+
+  public RejectedExecutionHandler toHandler() {
+    return switch (this) {
+      case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+      case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+      case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+      case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+    };
+  }
+}
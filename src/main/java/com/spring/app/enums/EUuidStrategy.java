@@ -0,0 +1,34 @@
+package com.spring.app.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum EUuidStrategy {
+  RANDOM("random"),
+  TIME_ORDERED("time-ordered");
+
+  @Getter
+  private final String value;
+
+  /**
+   * Resolves a strategy from its configuration value, defaulting to
+   * {@link #RANDOM} when no value is configured.
+   *
+   * @param value the configured value, e.g. "time-ordered"
+   * @return the matching strategy
+   * @throws IllegalArgumentException if the value matches no strategy, so a
+   *                                  typo fails at startup
+   */
+  public static EUuidStrategy fromValue(Object value) {
+    if (value == null || value.toString().isBlank()) {
+      return RANDOM;
+    }
+    for (EUuidStrategy strategy : values()) {
+      if (strategy.value.equalsIgnoreCase(value.toString().trim())) {
+        return strategy;
+      }
+    }
+    throw new IllegalArgumentException("Unknown UUID strategy '" + value + "', expected one of: random, time-ordered");
+  }
+}
@@ -4,6 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -73,6 +74,25 @@ public class GlobalExceptionHandler {
     return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage());
   }
 
+  /**
+   * Handles exceptions of type
+   * {@link OptimisticLockingFailureException}. These are thrown when an entity
+   * was modified by another request between being read and written (its
+   * version no longer matches). The response will have a status of
+   * {@link HttpStatus#CONFLICT} so the client can reload and retry.
+   *
+   * @param ex      The exception to handle.
+   * @param request The current HTTP request.
+   * @return A {@link ResponseEntity} with a status of
+   *         {@link HttpStatus#CONFLICT}.
+   */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<BaseResponse<Void>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex,
+      HttpServletRequest request) {
+    log.warn("Concurrent modification at end point: {} - Message: {}", request.getRequestURI(), ex.getMessage());
+    return buildErrorResponse(HttpStatus.CONFLICT, "The resource was modified concurrently, please retry");
+  }
+
   /**
    * Handles exceptions of type
    * {@link MethodArgumentNotValidException}. These are thrown when a request
@@ -231,6 +251,24 @@ public class GlobalExceptionHandler {
     return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Send email error: " + ex.getMessage());
   }
 
+  /**
+   * Handles exceptions of type {@link ServiceUnavailableException}. These are
+   * thrown when a bounded resource, such as the password hashing executor, is
+   * saturated. The response will have a status of
+   * {@link HttpStatus#SERVICE_UNAVAILABLE} so the client can retry later.
+   * 
+   * @param ex      The exception to handle.
+   * @param request The current HTTP request.
+   * @return A {@link ResponseEntity} with a status of
+   *         {@link HttpStatus#SERVICE_UNAVAILABLE} and the error message.
+   */
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<BaseResponse<Void>> handleServiceUnavailable(ServiceUnavailableException ex,
+      HttpServletRequest request) {
+    log.warn("Service unavailable at end point: {} - Message: {}", request.getRequestURI(), ex.getMessage());
+    return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+  }
+
   /**
    * Handles exceptions of type {@link RateLimitExceededException}. These are
    * thrown
@@ -1,10 +1,10 @@
 package com.spring.app.filter;
 
 import com.spring.app.constants.WhitelistUrlConstant;
-import com.spring.app.configs.properties.ApplicationProperties;
 import com.spring.app.enums.ERateLimitEndpoint;
 import com.spring.app.exceptions.RateLimitExceededException;
 import com.spring.app.shared.services.RateLimitManagerService;
+import com.spring.app.utils.ClientIpUtil;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -29,7 +29,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
   private final AntPathMatcher pathMatcher;
   private final RateLimitManagerService rateLimitManagerService;
   private final HandlerExceptionResolver handlerExceptionResolver;
-  private final ApplicationProperties applicationProperties;
+  private final ClientIpUtil clientIpUtil;
 
   @Override
   protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -37,7 +37,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
       @NonNull FilterChain filterChain)
       throws ServletException, IOException {
 
-    String clientIp = getClientIpAddress(request);
+    String clientIp = clientIpUtil.getClientIpAddress(request);
     String requestPath = request.getRequestURI();
 
     try {
@@ -81,36 +81,4 @@ public class RateLimitFilter extends OncePerRequestFilter {
     }
     return false;
   }
-
-  private String getClientIpAddress(HttpServletRequest request) {
-    String remoteAddr = request.getRemoteAddr();
-    if (!isTrustedProxy(remoteAddr)) {
-      return remoteAddr;
-    }
-
-    String xForwardedFor = request.getHeader("X-Forwarded-For");
-    if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
-      return xForwardedFor.split(",")[0].trim();
-    }
-
-    String xRealIp = request.getHeader("X-Real-IP");
-    if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
-      return xRealIp;
-    }
-
-    return remoteAddr;
-  }
-
-  private boolean isTrustedProxy(String remoteAddr) {
-    if (applicationProperties.getTrustedProxies() == null || applicationProperties.getTrustedProxies().isBlank()) {
-      return false;
-    }
-    String[] proxies = applicationProperties.getTrustedProxies().split(",");
-    for (String proxy : proxies) {
-      if (remoteAddr.equals(proxy.trim())) {
-        return true;
-      }
-    }
-    return false;
-  }
 }
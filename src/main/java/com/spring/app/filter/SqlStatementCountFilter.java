@@ -0,0 +1,67 @@
+package com.spring.app.filter;
+
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.spring.app.configs.datasource.SqlExecutionContext;
+import com.spring.app.configs.properties.SqlMetricsProperties;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records how many SQL statements each request executed, including the ones
+ * issued while authenticating inside the security filter chain.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.sql-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+  private static final String UNKNOWN_URI = "UNKNOWN";
+
+  private final MeterRegistry meterRegistry;
+  private final SqlMetricsProperties sqlMetricsProperties;
+
+  @Override
+  protected void doFilterInternal(@NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+
+    SqlExecutionContext.startRequest();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      int statements = SqlExecutionContext.endRequest();
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+      DistributionSummary.builder("http.server.requests.db.statements")
+          .description("SQL statements executed per HTTP request")
+          .tag("method", request.getMethod())
+          .tag("uri", uri)
+          .register(meterRegistry)
+          .record(statements);
+
+      if (statements >= sqlMetricsProperties.getRequestStatementWarnThreshold()) {
+        log.warn("{} {} executed {} SQL statements", request.getMethod(), uri, statements);
+      }
+    }
+  }
+}
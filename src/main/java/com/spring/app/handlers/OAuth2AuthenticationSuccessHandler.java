@@ -11,10 +11,12 @@ import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.spring.app.common.response.ResponseBuilder;
 import com.spring.app.configs.properties.JwtProperties;
+import com.spring.app.enums.EAuditEventType;
 import com.spring.app.modules.auth.mapper.AuthMapper;
-import com.spring.app.modules.auth.repositories.RefreshTokenRepository;
 import com.spring.app.modules.auth.repositories.UserRepository;
+import com.spring.app.shared.services.AuditEventService;
 import com.spring.app.shared.services.JwtService;
+import com.spring.app.shared.services.RefreshTokenStoreService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -31,7 +33,8 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
   private final AuthMapper authMapper;
   private final ObjectMapper objectMapper;
   private final JwtProperties jwtProperties;
-  private final RefreshTokenRepository refreshTokenRepository;
+  private final RefreshTokenStoreService refreshTokenStoreService;
+  private final AuditEventService auditEventService;
 
   /**
    * Handles the event of a successful OAuth2 authentication.
@@ -80,7 +83,8 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
         user,
         refreshToken,
         java.time.Instant.now().plusMillis(jwtProperties.getRefreshExpiration()));
-    refreshTokenRepository.save(refreshTokenEntity);
+    refreshTokenStoreService.store(refreshTokenEntity);
+    auditEventService.record(EAuditEventType.LOGIN_SUCCESS, user.getEmail(), "oauth2");
 
     var loginResponse = authMapper.userToLoginResponseDto(user, accessToken, refreshToken);
 
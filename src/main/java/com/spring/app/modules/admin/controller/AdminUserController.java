@@ -0,0 +1,101 @@
+package com.spring.app.modules.admin.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.spring.app.common.pagination.PaginationDto;
+import com.spring.app.constants.ApplicationConstants;
+import com.spring.app.enums.EFileFormat;
+import com.spring.app.enums.ERole;
+import com.spring.app.enums.EUserStatus;
+import com.spring.app.modules.admin.services.AdminUserExportServiceInterface;
+import com.spring.app.modules.admin.services.AdminUserImportServiceInterface;
+import com.spring.app.modules.admin.services.AdminUserServiceInterface;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping(ApplicationConstants.ADMIN_BASE_PATH + "/users")
+@Tag(name = "Admin User Management", description = "APIs for administrators to manage user accounts")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminUserController {
+  private final AdminUserServiceInterface adminUserService;
+  private final AdminUserExportServiceInterface adminUserExportService;
+  private final AdminUserImportServiceInterface adminUserImportService;
+
+  @Operation(summary = "List users", description = "List users newest first using cursor pagination. Pass the returned nextCursor to fetch the following page")
+  @GetMapping
+  public ResponseEntity<?> listUsers(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "" + ApplicationConstants.DEFAULT_PAGE_LIMIT) int limit,
+      @RequestParam(required = false) EUserStatus status,
+      @RequestParam(required = false) ERole role) {
+    PaginationDto paginationDto = PaginationDto.builder()
+        .limit(limit)
+        .cursor(cursor)
+        .build();
+
+    return adminUserService.listUsers(paginationDto, status, role);
+  }
+
+  @Operation(summary = "Search users", description = "Search users by name or email fragment, or by phone prefix, ordered by relevance. Results are capped at "
+      + ApplicationConstants.MAX_SEARCH_RESULTS)
+  @GetMapping("/search")
+  public ResponseEntity<?> searchUsers(
+      @RequestParam String search,
+      @RequestParam(defaultValue = "1") int page,
+      @RequestParam(defaultValue = "" + ApplicationConstants.DEFAULT_PAGE_LIMIT) int limit) {
+    PaginationDto paginationDto = PaginationDto.builder()
+        .page(page)
+        .limit(limit)
+        .search(search)
+        .build();
+
+    return adminUserService.searchUsers(paginationDto);
+  }
+
+  @Operation(summary = "Autocomplete users", description = "Prefix lookup by email, full name or any word of the full name, served from memory")
+  @GetMapping("/autocomplete")
+  public ResponseEntity<?> autocompleteUsers(
+      @RequestParam String query,
+      @RequestParam(defaultValue = "" + ApplicationConstants.DEFAULT_AUTOCOMPLETE_LIMIT) int limit) {
+    return adminUserService.autocompleteUsers(query, limit);
+  }
+
+  @Operation(summary = "Export users", description = "Stream every user as CSV or NDJSON, optionally gzip-encoded")
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportUsers(
+      @RequestParam(defaultValue = "CSV") EFileFormat format,
+      @RequestParam(defaultValue = "false") boolean gzip) {
+    return adminUserExportService.exportUsers(format, gzip);
+  }
+
+  @Operation(summary = "Import users", description = "Upload a CSV (email,password,full_name[,phone,address]) or NDJSON file of users to create. Runs in the background; poll the returned job for progress and per-row errors")
+  @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<?> importUsers(
+      @RequestPart("file") MultipartFile file,
+      @RequestParam(defaultValue = "CSV") EFileFormat format) {
+    return adminUserImportService.startImport(file, format);
+  }
+
+  @Operation(summary = "Get import report", description = "Progress and per-row errors of a user import job")
+  @GetMapping("/import/{jobId}")
+  public ResponseEntity<?> getImportReport(@PathVariable UUID jobId) {
+    return adminUserImportService.getImportReport(jobId);
+  }
+}
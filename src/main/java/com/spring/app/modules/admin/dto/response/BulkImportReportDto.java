@@ -0,0 +1,25 @@
+package com.spring.app.modules.admin.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+
+@Builder
+public record BulkImportReportDto(
+  UUID jobId,
+  String status,
+  int processedRows,
+  int createdUsers,
+  int failedRows,
+  List<BulkImportRowErrorDto> errors,
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  String failureMessage,
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  Instant startedAt,
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  Instant finishedAt
+) {}
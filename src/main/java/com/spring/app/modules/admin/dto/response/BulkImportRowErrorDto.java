@@ -0,0 +1,10 @@
+package com.spring.app.modules.admin.dto.response;
+
+import lombok.Builder;
+
+@Builder
+public record BulkImportRowErrorDto(
+  int row,
+  String email,
+  String message
+) {}
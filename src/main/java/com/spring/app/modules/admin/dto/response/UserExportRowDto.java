@@ -0,0 +1,24 @@
+package com.spring.app.modules.admin.dto.response;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.Builder;
+
+@Builder
+public record UserExportRowDto(
+  UUID id,
+  String email,
+  String fullName,
+  String phone,
+  String address,
+  @JsonFormat(pattern = "yyyy-MM-dd")
+  LocalDate dateOfBirth,
+  String role,
+  String status,
+  Instant createdAt,
+  Instant updatedAt
+) {}
@@ -0,0 +1,12 @@
+package com.spring.app.modules.admin.dto.response;
+
+import java.util.UUID;
+
+import lombok.Builder;
+
+@Builder
+public record UserSuggestionDto(
+  UUID id,
+  String email,
+  String fullName
+) {}
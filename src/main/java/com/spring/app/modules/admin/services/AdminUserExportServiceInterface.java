@@ -0,0 +1,10 @@
+package com.spring.app.modules.admin.services;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.spring.app.enums.EFileFormat;
+
+public interface AdminUserExportServiceInterface {
+  ResponseEntity<StreamingResponseBody> exportUsers(EFileFormat format, boolean gzip);
+}
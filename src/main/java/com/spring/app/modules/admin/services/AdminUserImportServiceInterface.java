@@ -0,0 +1,14 @@
+package com.spring.app.modules.admin.services;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.spring.app.enums.EFileFormat;
+
+public interface AdminUserImportServiceInterface {
+  ResponseEntity<?> startImport(MultipartFile file, EFileFormat format);
+
+  ResponseEntity<?> getImportReport(UUID jobId);
+}
@@ -0,0 +1,15 @@
+package com.spring.app.modules.admin.services;
+
+import org.springframework.http.ResponseEntity;
+
+import com.spring.app.common.pagination.PaginationDto;
+import com.spring.app.enums.ERole;
+import com.spring.app.enums.EUserStatus;
+
+public interface AdminUserServiceInterface {
+  ResponseEntity<?> listUsers(PaginationDto paginationDto, EUserStatus status, ERole role);
+
+  ResponseEntity<?> searchUsers(PaginationDto paginationDto);
+
+  ResponseEntity<?> autocompleteUsers(String query, int limit);
+}
@@ -0,0 +1,492 @@
+package com.spring.app.modules.admin.services.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.spring.app.common.response.ResponseBuilder;
+import com.spring.app.configs.properties.BulkImportProperties;
+import com.spring.app.enums.EFileFormat;
+import com.spring.app.enums.EImportJobStatus;
+import com.spring.app.enums.EUserStatus;
+import com.spring.app.exceptions.BadRequestException;
+import com.spring.app.exceptions.ConflictException;
+import com.spring.app.exceptions.ResourceNotFoundException;
+import com.spring.app.modules.admin.dto.response.BulkImportReportDto;
+import com.spring.app.modules.admin.dto.response.BulkImportRowErrorDto;
+import com.spring.app.modules.admin.services.AdminUserImportServiceInterface;
+import com.spring.app.modules.auth.dto.request.RegisterRequestDto;
+import com.spring.app.modules.auth.entities.User;
+import com.spring.app.modules.auth.repositories.UserRepository;
+import com.spring.app.shared.services.UserPrefixIndexService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates users in bulk from an uploaded CSV or NDJSON file.
+ *
+ * <p>
+ * The upload is spooled to a temporary file and processed by a background job
+ * in chunks: rows are validated and de-duplicated within the file, each chunk
+ * is checked against the database with a single {@code IN} query, passwords are
+ * hashed in parallel on {@code bulkImportHashExecutor}, and the chunk is
+ * inserted in one transaction so Hibernate can send it as JDBC batches. Jobs
+ * and their reports live in memory on the instance that accepted the upload.
+ */
+@Service
+@Slf4j
+public class AdminUserImportService implements AdminUserImportServiceInterface {
+
+  private static final List<String> REQUIRED_CSV_COLUMNS = List.of("email", "password", "full_name");
+
+  private final UserRepository userRepository;
+  private final PasswordEncoder passwordEncoder;
+  private final Validator validator;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectReader ndjsonReader;
+  private final Executor bulkImportExecutor;
+  private final Executor bulkImportHashExecutor;
+  private final BulkImportProperties bulkImportProperties;
+  private final UserPrefixIndexService userPrefixIndexService;
+
+  private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+  private record PendingRow(int rowNumber, String email, RegisterRequestDto dto) {
+  }
+
+  public AdminUserImportService(UserRepository userRepository,
+      @Qualifier("rawPasswordEncoder") PasswordEncoder passwordEncoder,
+      Validator validator, EntityManager entityManager, PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper, @Qualifier("bulkImportExecutor") Executor bulkImportExecutor,
+      @Qualifier("bulkImportHashExecutor") Executor bulkImportHashExecutor,
+      BulkImportProperties bulkImportProperties, UserPrefixIndexService userPrefixIndexService) {
+    this.userRepository = userRepository;
+    this.passwordEncoder = passwordEncoder;
+    this.validator = validator;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.ndjsonReader = objectMapper.readerFor(RegisterRequestDto.class);
+    this.bulkImportExecutor = bulkImportExecutor;
+    this.bulkImportHashExecutor = bulkImportHashExecutor;
+    this.bulkImportProperties = bulkImportProperties;
+    this.userPrefixIndexService = userPrefixIndexService;
+  }
+
+  @Override
+  public ResponseEntity<?> startImport(MultipartFile file, EFileFormat format) {
+    if (file == null || file.isEmpty()) {
+      throw new BadRequestException("Import file is empty");
+    }
+
+    Path spooledFile;
+    try {
+      spooledFile = Files.createTempFile("user-import-", "." + format.getFileExtension());
+      file.transferTo(spooledFile);
+    } catch (IOException e) {
+      throw new BadRequestException("Could not read the uploaded file");
+    }
+
+    ImportJob job = new ImportJob(UUID.randomUUID(), bulkImportProperties.getMaxReportedErrors());
+    jobs.put(job.id, job);
+    try {
+      // Keeps the uploader as created_by on the imported rows.
+      bulkImportExecutor.execute(new DelegatingSecurityContextRunnable(() -> runImport(job, spooledFile, format)));
+    } catch (TaskRejectedException e) {
+      jobs.remove(job.id);
+      deleteQuietly(spooledFile);
+      throw new ConflictException("Too many user imports are in progress, try again later");
+    }
+
+    log.info("User import {} queued ({} bytes, {})", job.id, file.getSize(), format);
+    return ResponseBuilder.accepted("User import started", job.toReport());
+  }
+
+  @Override
+  public ResponseEntity<?> getImportReport(UUID jobId) {
+    ImportJob job = jobs.get(jobId);
+    if (job == null) {
+      throw new ResourceNotFoundException("Import job not found with id: " + jobId);
+    }
+    return ResponseBuilder.success("Get import report successfully", job.toReport());
+  }
+
+  @Scheduled(fixedDelay = 600_000)
+  public void evictFinishedJobs() {
+    Instant cutoff = Instant.now().minus(Duration.ofMinutes(bulkImportProperties.getReportRetentionMinutes()));
+    jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+  }
+
+  private void runImport(ImportJob job, Path spooledFile, EFileFormat format) {
+    job.start();
+    try (BufferedReader reader = Files.newBufferedReader(spooledFile, StandardCharsets.UTF_8)) {
+      Iterator<RegisterRequestDto> rows = format == EFileFormat.CSV ? csvRows(reader) : ndjsonRows(reader);
+      Set<String> seenEmails = new HashSet<>();
+      List<PendingRow> chunk = new ArrayList<>(bulkImportProperties.getChunkSize());
+      int rowNumber = 0;
+
+      while (rows.hasNext()) {
+        rowNumber++;
+        RegisterRequestDto dto;
+        try {
+          dto = rows.next();
+        } catch (RuntimeException e) {
+          job.reject(rowNumber, null, "Malformed row");
+          continue;
+        }
+
+        String violation = validate(dto);
+        if (violation != null) {
+          job.reject(rowNumber, dto.email(), violation);
+          continue;
+        }
+
+        String email = dto.email().strip();
+        if (!seenEmails.add(email.toLowerCase(Locale.ROOT))) {
+          job.reject(rowNumber, email, "Duplicate email in file");
+          continue;
+        }
+
+        chunk.add(new PendingRow(rowNumber, email, dto));
+        if (chunk.size() == bulkImportProperties.getChunkSize()) {
+          importChunk(job, chunk);
+          chunk = new ArrayList<>(bulkImportProperties.getChunkSize());
+        }
+      }
+
+      if (!chunk.isEmpty()) {
+        importChunk(job, chunk);
+      }
+      job.finish(EImportJobStatus.COMPLETED, null);
+      log.info("User import {} completed: {} created, {} failed", job.id, job.created.get(), job.failed.get());
+    } catch (Exception e) {
+      job.finish(EImportJobStatus.FAILED, e.getMessage());
+      log.error("User import {} failed after {} rows", job.id, job.processed.get(), e);
+    } finally {
+      deleteQuietly(spooledFile);
+    }
+  }
+
+  private void importChunk(ImportJob job, List<PendingRow> chunk) {
+    // The collation is case-insensitive, so this also catches case variants.
+    Set<String> existing = userRepository.findExistingEmails(chunk.stream().map(PendingRow::email).toList())
+        .stream()
+        .map(email -> email.toLowerCase(Locale.ROOT))
+        .collect(Collectors.toSet());
+
+    List<PendingRow> fresh = new ArrayList<>(chunk.size());
+    for (PendingRow row : chunk) {
+      if (existing.contains(row.email().toLowerCase(Locale.ROOT))) {
+        job.reject(row.rowNumber(), row.email(), "Email already registered");
+      } else {
+        fresh.add(row);
+      }
+    }
+    if (fresh.isEmpty()) {
+      return;
+    }
+
+    List<CompletableFuture<User>> hashed = fresh.stream()
+        .map(row -> CompletableFuture.supplyAsync(() -> toUser(row), bulkImportHashExecutor))
+        .toList();
+    List<User> users = hashed.stream().map(CompletableFuture::join).toList();
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        userRepository.saveAll(users);
+        entityManager.flush();
+        entityManager.clear();
+      });
+      users.forEach(userPrefixIndexService::upsertAfterCommit);
+      job.created.addAndGet(users.size());
+      job.processed.addAndGet(users.size());
+    } catch (DataIntegrityViolationException | PersistenceException e) {
+      // A concurrent registration took one of the emails; isolate the offending rows. The explicit
+      // flush on the shared EntityManager throws Hibernate's exception untranslated.
+      insertIndividually(job, fresh, users);
+    }
+  }
+
+  /**
+   * The rolled-back batch left its entities with an id and version assigned,
+   * which would make {@code save} merge them; each row is inserted from a fresh
+   * copy instead, reusing the computed password hash.
+   */
+  private void insertIndividually(ImportJob job, List<PendingRow> rows, List<User> users) {
+    for (int i = 0; i < rows.size(); i++) {
+      User user = copyForInsert(users.get(i));
+      try {
+        User saved = transactionTemplate.execute(status -> userRepository.save(user));
+        userPrefixIndexService.upsertAfterCommit(saved);
+        job.created.incrementAndGet();
+        job.processed.incrementAndGet();
+      } catch (DataIntegrityViolationException e) {
+        job.reject(rows.get(i).rowNumber(), rows.get(i).email(), "Email already registered");
+      }
+    }
+  }
+
+  private static User copyForInsert(User user) {
+    return User.builder()
+        .email(user.getEmail())
+        .password(user.getPassword())
+        .fullName(user.getFullName())
+        .phone(user.getPhone())
+        .address(user.getAddress())
+        .status(user.getStatus())
+        .build();
+  }
+
+  private User toUser(PendingRow row) {
+    RegisterRequestDto dto = row.dto();
+    return User.builder()
+        .email(row.email())
+        .password(passwordEncoder.encode(dto.password()))
+        .fullName(dto.fullName())
+        .phone(dto.phone())
+        .address(dto.address())
+        .status(EUserStatus.ACTIVE)
+        .build();
+  }
+
+  private String validate(RegisterRequestDto dto) {
+    Set<ConstraintViolation<RegisterRequestDto>> violations = validator.validate(dto);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+        .sorted()
+        .collect(Collectors.joining("; "));
+  }
+
+  private Iterator<RegisterRequestDto> ndjsonRows(Reader reader) throws IOException {
+    MappingIterator<RegisterRequestDto> iterator = ndjsonReader.readValues(reader);
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        try {
+          return iterator.hasNextValue();
+        } catch (IOException e) {
+          return false;
+        }
+      }
+
+      @Override
+      public RegisterRequestDto next() {
+        try {
+          return iterator.nextValue();
+        } catch (IOException e) {
+          throw new IllegalArgumentException(e);
+        }
+      }
+    };
+  }
+
+  private Iterator<RegisterRequestDto> csvRows(BufferedReader reader) throws IOException {
+    List<String> header = readCsvRecord(reader);
+    if (header == null) {
+      return List.<RegisterRequestDto>of().iterator();
+    }
+
+    Map<String, Integer> columns = new HashMap<>();
+    for (int i = 0; i < header.size(); i++) {
+      columns.put(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+    }
+    for (String required : REQUIRED_CSV_COLUMNS) {
+      if (!columns.containsKey(required)) {
+        throw new IllegalArgumentException("CSV header is missing column: " + required);
+      }
+    }
+
+    return new Iterator<>() {
+      private List<String> nextRecord = readCsvRecord(reader);
+
+      @Override
+      public boolean hasNext() {
+        return nextRecord != null;
+      }
+
+      @Override
+      public RegisterRequestDto next() {
+        if (nextRecord == null) {
+          throw new NoSuchElementException();
+        }
+        List<String> record = nextRecord;
+        try {
+          nextRecord = readCsvRecord(reader);
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+        return new RegisterRequestDto(
+            column(record, columns, "email"),
+            column(record, columns, "password"),
+            column(record, columns, "full_name"),
+            column(record, columns, "phone"),
+            column(record, columns, "address"));
+      }
+    };
+  }
+
+  private static String column(List<String> record, Map<String, Integer> columns, String name) {
+    Integer index = columns.get(name);
+    if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+      return null;
+    }
+    return record.get(index);
+  }
+
+  /**
+   * Reads one RFC 4180 record, including quoted fields spanning lines.
+   * Returns {@code null} at end of input.
+   */
+  private static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+    int c = reader.read();
+    while (c == '\r' || c == '\n') {
+      c = reader.read();
+    }
+    if (c == -1) {
+      return null;
+    }
+
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    while (c != -1) {
+      if (quoted) {
+        if (c == '"') {
+          reader.mark(1);
+          int next = reader.read();
+          if (next == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            reader.reset();
+          }
+        } else {
+          field.append((char) c);
+        }
+      } else if (c == '"' && field.isEmpty()) {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\n' || c == '\r') {
+        break;
+      } else {
+        field.append((char) c);
+      }
+      c = reader.read();
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Could not delete spooled import file {}", path);
+    }
+  }
+
+  /**
+   * Progress of one import; counters are updated by the import thread and
+   * read concurrently by report requests.
+   */
+  private static final class ImportJob {
+    private final UUID id;
+    private final int maxReportedErrors;
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final List<BulkImportRowErrorDto> errors = new ArrayList<>();
+    private volatile EImportJobStatus status = EImportJobStatus.QUEUED;
+    private volatile String failureMessage;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    private ImportJob(UUID id, int maxReportedErrors) {
+      this.id = id;
+      this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void start() {
+      startedAt = Instant.now();
+      status = EImportJobStatus.RUNNING;
+    }
+
+    void finish(EImportJobStatus finalStatus, String message) {
+      failureMessage = message;
+      finishedAt = Instant.now();
+      status = finalStatus;
+    }
+
+    void reject(int rowNumber, String email, String message) {
+      processed.incrementAndGet();
+      failed.incrementAndGet();
+      synchronized (errors) {
+        if (errors.size() < maxReportedErrors) {
+          errors.add(new BulkImportRowErrorDto(rowNumber, email, message));
+        }
+      }
+    }
+
+    BulkImportReportDto toReport() {
+      List<BulkImportRowErrorDto> errorsSnapshot;
+      synchronized (errors) {
+        errorsSnapshot = List.copyOf(errors);
+      }
+      return BulkImportReportDto.builder()
+          .jobId(id)
+          .status(status.name())
+          .processedRows(processed.get())
+          .createdUsers(created.get())
+          .failedRows(failed.get())
+          .errors(errorsSnapshot)
+          .failureMessage(failureMessage)
+          .startedAt(startedAt)
+          .finishedAt(finishedAt)
+          .build();
+    }
+  }
+}
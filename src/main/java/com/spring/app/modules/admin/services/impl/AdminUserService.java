@@ -0,0 +1,190 @@
+package com.spring.app.modules.admin.services.impl;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spring.app.common.entities.BaseAuditingEntity;
+import com.spring.app.common.pagination.KeysetCursor;
+import com.spring.app.common.pagination.PaginationDto;
+import com.spring.app.common.response.ResponseBuilder;
+import com.spring.app.constants.ApplicationConstants;
+import com.spring.app.enums.ERole;
+import com.spring.app.enums.EUserStatus;
+import com.spring.app.exceptions.BadRequestException;
+import com.spring.app.modules.admin.services.AdminUserServiceInterface;
+import com.spring.app.modules.auth.dto.response.UserResponseDto;
+import com.spring.app.modules.auth.entities.User;
+import com.spring.app.modules.auth.mapper.AuthMapper;
+import com.spring.app.modules.auth.repositories.UserRepository;
+import com.spring.app.shared.services.UserPrefixIndexService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminUserService implements AdminUserServiceInterface {
+
+  private static final String CREATED_AT = BaseAuditingEntity.Fields.createdAt;
+  private static final String ID = "id";
+  private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc(CREATED_AT), Sort.Order.desc(ID));
+
+  private static final Pattern PHONE_TERM = Pattern.compile("^\\+?[0-9][0-9 .-]*$");
+  private static final Pattern PHONE_SEPARATORS = Pattern.compile("[ .-]");
+
+  // ER_QUERY_TIMEOUT: the MAX_EXECUTION_TIME hint fired.
+  private static final int MYSQL_QUERY_TIMEOUT = 3024;
+
+  private final UserRepository userRepository;
+  private final AuthMapper userMapper;
+  private final UserPrefixIndexService userPrefixIndexService;
+
+  /**
+   * Lists users newest first using keyset pagination on
+   * {@code (created_at, id)}. Each page is an index range scan that starts
+   * right after the cursor, so the cost does not grow with the page depth.
+   * One extra row is fetched to tell whether a next page exists.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> listUsers(PaginationDto paginationDto, EUserStatus status, ERole role) {
+    int limit = Math.clamp(paginationDto.limit(), 1, ApplicationConstants.MAX_PAGE_LIMIT);
+    KeysetCursor cursor = paginationDto.cursor() != null ? KeysetCursor.decode(paginationDto.cursor()) : null;
+
+    Specification<User> specification = Specification.allOf(
+        hasStatus(status),
+        hasRole(role),
+        after(cursor));
+
+    List<User> users = userRepository.findBy(specification, query -> query
+        .sortBy(KEYSET_ORDER)
+        .limit(limit + 1)
+        .all());
+
+    String nextCursor = null;
+    if (users.size() > limit) {
+      users = users.subList(0, limit);
+      User last = users.getLast();
+      nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+
+    List<UserResponseDto> response = users.stream()
+        .map(userMapper::userToUserResponseDto)
+        .toList();
+
+    return ResponseBuilder.successCursorPageResponse(response, nextCursor, "Get users successfully");
+  }
+
+  private static Specification<User> hasStatus(EUserStatus status) {
+    return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+  }
+
+  private static Specification<User> hasRole(ERole role) {
+    return (root, query, cb) -> role == null ? null : cb.equal(root.get("role"), role);
+  }
+
+  /**
+   * {@code created_at <= :createdAt AND (created_at < :createdAt OR id < :id)},
+   * which MySQL turns into a range on the leading index column, unlike a row
+   * constructor comparison.
+   */
+  private static Specification<User> after(KeysetCursor cursor) {
+    return (root, query, cb) -> {
+      if (cursor == null) {
+        return null;
+      }
+      var createdAt = root.<Instant>get(CREATED_AT);
+      return cb.and(
+          cb.lessThanOrEqualTo(createdAt, cursor.createdAt()),
+          cb.or(
+              cb.lessThan(createdAt, cursor.createdAt()),
+              cb.lessThan(root.<UUID>get(ID), cursor.id())));
+    };
+  }
+
+  /**
+   * Searches users by name or email fragment through the ngram FULLTEXT index,
+   * or by phone prefix when the term looks like a phone number.
+   *
+   * <p>
+   * The term is matched as a quoted phrase in BOOLEAN MODE: with the ngram
+   * parser, NATURAL LANGUAGE MODE matches any single bigram and ranks almost
+   * every row, while a phrase requires the bigrams to be adjacent. Phone
+   * separators are stripped from the term and, through {@code phone_digits},
+   * from the stored phones. Results are capped at
+   * {@link ApplicationConstants#MAX_SEARCH_RESULTS} across all pages.
+   *
+   * <p>
+   * Counting the matches would cost as much as the search itself, so the page
+   * carries only {@code hasNext}, found by fetching one extra row.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> searchUsers(PaginationDto paginationDto) {
+    String search = paginationDto.search() != null ? paginationDto.search().strip() : "";
+    int pageIndex = Math.max(paginationDto.page(), 1) - 1;
+    int pageLimit = Math.clamp(paginationDto.limit(), 1, ApplicationConstants.MAX_PAGE_LIMIT);
+    int offset = pageIndex * pageLimit;
+
+    if (offset >= ApplicationConstants.MAX_SEARCH_RESULTS) {
+      return ResponseBuilder.successSlicePageResponse(List.of(), false, "Search users successfully");
+    }
+    int limit = Math.min(pageLimit, ApplicationConstants.MAX_SEARCH_RESULTS - offset);
+
+    List<User> users;
+    if (PHONE_TERM.matcher(search).matches()) {
+      String phonePrefix = PHONE_SEPARATORS.matcher(search).replaceAll("");
+      users = userRepository.searchByPhonePrefix(phonePrefix, limit + 1, offset);
+    } else {
+      // Inside a quoted phrase only the quote itself has a meaning in BOOLEAN MODE.
+      String phrase = search.replace('"', ' ').strip();
+      if (phrase.length() < ApplicationConstants.MIN_SEARCH_LENGTH) {
+        throw new BadRequestException(
+            "Search term must contain at least " + ApplicationConstants.MIN_SEARCH_LENGTH + " characters");
+      }
+      users = searchByFullText("\"" + phrase + "\"", limit + 1, offset);
+    }
+
+    boolean hasNext = users.size() > limit && offset + limit < ApplicationConstants.MAX_SEARCH_RESULTS;
+    List<UserResponseDto> response = users.stream()
+        .limit(limit)
+        .map(userMapper::userToUserResponseDto)
+        .toList();
+
+    return ResponseBuilder.successSlicePageResponse(response, hasNext, "Search users successfully");
+  }
+
+  /**
+   * Type-ahead over the in-memory prefix index; never touches the database.
+   */
+  @Override
+  public ResponseEntity<?> autocompleteUsers(String query, int limit) {
+    var suggestions = userPrefixIndexService.lookup(query,
+        Math.clamp(limit, 1, ApplicationConstants.MAX_AUTOCOMPLETE_LIMIT));
+    return ResponseBuilder.success("Get user suggestions successfully", suggestions);
+  }
+
+  private List<User> searchByFullText(String term, int limit, int offset) {
+    try {
+      return userRepository.searchByFullText(term, limit, offset);
+    } catch (DataAccessException e) {
+      if (e.getMostSpecificCause() instanceof SQLException sqlException
+          && sqlException.getErrorCode() == MYSQL_QUERY_TIMEOUT) {
+        log.warn("User search timed out for a term of length {}", term.length());
+        throw new BadRequestException("Search term is too broad, please refine it");
+      }
+      throw e;
+    }
+  }
+}
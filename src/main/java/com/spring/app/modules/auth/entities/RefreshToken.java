@@ -31,7 +31,8 @@ public class RefreshToken extends BaseEntity {
   @Builder.Default
   private boolean isRevoked = false;
 
-  @Column()
+  // Partitioning key of refresh_tokens, see V2__create_refresh_tokens.sql
+  @Column(nullable = false)
   private Instant expiryDate;
 
   @ManyToOne
@@ -7,6 +7,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.*;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -15,6 +17,7 @@ import java.util.Collection;
 
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @Builder
@@ -53,6 +56,11 @@ public class User extends BaseEntity implements UserDetails {
   @Builder.Default
   private EUserStatus status = EUserStatus.PENDING;
 
+  // Null until first persisted, which is how Spring Data tells new users from existing ones.
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
     return this.role.getListAuthorities();
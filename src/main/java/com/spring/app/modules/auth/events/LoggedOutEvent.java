@@ -0,0 +1,12 @@
+package com.spring.app.modules.auth.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A user logged out; the access token is already blacklisted and the refresh tokens revoked.
+ *
+ * @param clientIp the IP of the request that caused the event, if any
+ */
+public record LoggedOutEvent(UUID userId, String email, String clientIp, Instant occurredAt) {
+}
@@ -0,0 +1,12 @@
+package com.spring.app.modules.auth.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A password was reset with an OTP; the user's refresh tokens are already revoked.
+ *
+ * @param clientIp the IP of the request that caused the event, if any
+ */
+public record PasswordResetEvent(UUID userId, String email, String clientIp, Instant occurredAt) {
+}
@@ -0,0 +1,12 @@
+package com.spring.app.modules.auth.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A PENDING account was activated with its OTP.
+ *
+ * @param clientIp the IP of the request that caused the event, if any
+ */
+public record UserActivatedEvent(UUID userId, String email, String clientIp, Instant occurredAt) {
+}
@@ -0,0 +1,12 @@
+package com.spring.app.modules.auth.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A new account was created (PENDING, or ACTIVE in dev mode).
+ *
+ * @param clientIp the IP of the request that caused the event, if any
+ */
+public record UserRegisteredEvent(UUID userId, String email, String fullName, String clientIp, Instant occurredAt) {
+}
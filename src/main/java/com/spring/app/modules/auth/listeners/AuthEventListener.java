@@ -0,0 +1,93 @@
+package com.spring.app.modules.auth.listeners;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.spring.app.common.concurrent.CombiningBatcher;
+import com.spring.app.enums.EAuditEventType;
+import com.spring.app.modules.admin.dto.response.UserSuggestionDto;
+import com.spring.app.modules.auth.events.LoggedOutEvent;
+import com.spring.app.modules.auth.events.PasswordResetEvent;
+import com.spring.app.modules.auth.events.TokenRefreshedEvent;
+import com.spring.app.modules.auth.events.UserActivatedEvent;
+import com.spring.app.modules.auth.events.UserRegisteredEvent;
+import com.spring.app.shared.services.AuditEventService;
+import com.spring.app.shared.services.AuthCacheService;
+import com.spring.app.shared.services.MonitoringService;
+import com.spring.app.shared.services.UserPrefixIndexService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Secondary work for the auth lifecycle: audit trail, metrics, the user prefix
+ * index and cache evictions that nothing reads right away.
+ *
+ * <p>
+ * Handlers run on {@code authEventExecutor} once the publishing transaction
+ * has committed, or right away when there is none, so a rolled-back request
+ * never produces side effects. That executor never rejects, since a rejection
+ * would be thrown into the already-committed request. Anything a follow-up
+ * request depends on (token revocation, evicting a freshly registered user or
+ * one whose status or password changed, the OTP outbox row) stays inline in
+ * {@link com.spring.app.modules.auth.services.impl.AuthServiceImpl}.
+ */
+@Component
+@Slf4j
+public class AuthEventListener {
+
+  private static final int PREFIX_INDEX_BATCH_SIZE = 256;
+
+  private final AuditEventService auditEventService;
+  private final AuthCacheService authCacheService;
+  private final MonitoringService monitoringService;
+  private final CombiningBatcher<UserSuggestionDto> prefixIndexBatcher;
+
+  public AuthEventListener(AuditEventService auditEventService, AuthCacheService authCacheService,
+      MonitoringService monitoringService, UserPrefixIndexService userPrefixIndexService) {
+    this.auditEventService = auditEventService;
+    this.authCacheService = authCacheService;
+    this.monitoringService = monitoringService;
+    this.prefixIndexBatcher = new CombiningBatcher<>("User prefix index", PREFIX_INDEX_BATCH_SIZE,
+        userPrefixIndexService::upsertAll);
+  }
+
+  @Async("authEventExecutor")
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onUserRegistered(UserRegisteredEvent event) {
+    prefixIndexBatcher.submit(new UserSuggestionDto(event.userId(), event.email(), event.fullName()));
+    monitoringService.incrementRegistrationAttempts();
+    auditEventService.record(EAuditEventType.ACCOUNT_REGISTERED, event.email(), null, event.clientIp(),
+        event.occurredAt());
+  }
+
+  @Async("authEventExecutor")
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onUserActivated(UserActivatedEvent event) {
+    auditEventService.record(EAuditEventType.ACCOUNT_ACTIVATED, event.email(), null, event.clientIp(),
+        event.occurredAt());
+  }
+
+  @Async("authEventExecutor")
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onPasswordReset(PasswordResetEvent event) {
+    auditEventService.record(EAuditEventType.PASSWORD_RESET, event.email(), null, event.clientIp(),
+        event.occurredAt());
+  }
+
+  @Async("authEventExecutor")
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onLoggedOut(LoggedOutEvent event) {
+    authCacheService.evictCachedUser(event.email());
+    auditEventService.record(EAuditEventType.LOGOUT, event.email(), null, event.clientIp(), event.occurredAt());
+    log.info("User {} logged out successfully", event.email());
+  }
+
+  @Async("authEventExecutor")
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onTokenRefreshed(TokenRefreshedEvent event) {
+    auditEventService.record(EAuditEventType.TOKEN_REFRESH, event.email(), null, event.clientIp(),
+        event.occurredAt());
+  }
+}
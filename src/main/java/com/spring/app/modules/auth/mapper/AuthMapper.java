@@ -12,12 +12,15 @@ import com.spring.app.modules.auth.dto.response.TokenResponseDto;
 import com.spring.app.modules.auth.dto.response.UserResponseDto;
 import com.spring.app.modules.auth.entities.RefreshToken;
 import com.spring.app.modules.auth.entities.User;
+import com.spring.app.modules.auth.repositories.projections.UserProfileView;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface AuthMapper {
 
   UserResponseDto userToUserResponseDto(User user);
 
+  UserResponseDto userProfileViewToUserResponseDto(UserProfileView userProfileView);
+
   RegisterResponseDto userToRegisterResponseDto(User user);
 
   @Mapping(target = "userResponseDto", source = "user")
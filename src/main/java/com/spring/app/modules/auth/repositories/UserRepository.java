@@ -1,26 +1,135 @@
 package com.spring.app.modules.auth.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.spring.app.enums.EUserStatus;
 import com.spring.app.modules.auth.entities.User;
+import com.spring.app.modules.auth.repositories.projections.UserProfileView;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository
+    extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User>, UserRepositoryCustom {
   boolean existsByEmailAndStatus(String email, EUserStatus status);
 
   boolean existsByEmailAndStatusNot(String email, EUserStatus status);
 
   Optional<User> findByEmailAndStatus(String email, EUserStatus status);
 
-  Optional<User> findByEmail(String email);
-
   @NonNull
   Optional<User> findByIdAndStatus(UUID id, EUserStatus status);
 
+  @Transactional(readOnly = true)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+  @Query("""
+      SELECT new com.spring.app.modules.auth.repositories.projections.UserProfileView(
+        u.id, u.email, u.fullName, u.phone, u.avatarUrl, u.address, u.dateOfBirth,
+        u.status, u.description, u.role, u.createdAt, u.updatedAt)
+      FROM User u
+      WHERE u.id = :id
+      """)
+  Optional<UserProfileView> findProfileById(@Param("id") UUID id);
+
+  @Transactional(readOnly = true)
+  @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+  List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+  /**
+   * Relevance-ordered full-text search over full name and email. The optimizer
+   * hint aborts the statement after 500 ms so a pathological term cannot tie
+   * up a connection.
+   *
+   * @param term a BOOLEAN MODE expression, see {@code AdminUserService}
+   */
+  @Transactional(readOnly = true)
+  @Query(value = """
+      SELECT /*+ MAX_EXECUTION_TIME(500) */ u.*
+      FROM users u
+      WHERE MATCH(u.full_name, u.email) AGAINST (:term IN BOOLEAN MODE)
+      ORDER BY MATCH(u.full_name, u.email) AGAINST (:term IN BOOLEAN MODE) DESC, u.id
+      LIMIT :limit OFFSET :offset
+      """, nativeQuery = true)
+  List<User> searchByFullText(@Param("term") String term, @Param("limit") int limit, @Param("offset") int offset);
+
+  /**
+   * Phone prefix search on {@code phone_digits}, the phone without spaces,
+   * dots, dashes and parentheses, so a number matches however it was
+   * formatted when stored.
+   *
+   * @param prefix digits, optionally after a leading {@code +}
+   */
+  @Transactional(readOnly = true)
+  @Query(value = """
+      SELECT u.*
+      FROM users u
+      WHERE u.phone_digits LIKE CONCAT(:prefix, '%')
+      ORDER BY u.phone_digits, u.id
+      LIMIT :limit OFFSET :offset
+      """, nativeQuery = true)
+  List<User> searchByPhonePrefix(@Param("prefix") String prefix, @Param("limit") int limit, @Param("offset") int offset);
+
+  /**
+   * Moves a user from one status to another in a single statement, without
+   * loading the entity first. The status predicate makes the transition safe
+   * under concurrency: only one caller sees an updated row.
+   *
+   * @return 1 if the user was in status {@code from}, otherwise 0
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("""
+      UPDATE User u
+      SET u.status = :to, u.version = u.version + 1, u.updatedAt = :now
+      WHERE u.id = :id AND u.status = :from
+      """)
+  int transitionStatus(@Param("id") UUID id, @Param("from") EUserStatus from, @Param("to") EUserStatus to,
+      @Param("now") Instant now);
+
+  /**
+   * Replaces the password hash of a user that is still in {@code status}.
+   *
+   * @return 1 if the password was updated, otherwise 0
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("""
+      UPDATE User u
+      SET u.password = :password, u.version = u.version + 1, u.updatedAt = :now
+      WHERE u.id = :id AND u.status = :status
+      """)
+  int updatePasswordIfStatus(@Param("id") UUID id, @Param("password") String password,
+      @Param("status") EUserStatus status, @Param("now") Instant now);
+
+  /**
+   * Replaces a password hash only if it is still {@code currentPassword}, so
+   * a rehash never overwrites a password changed in the meantime.
+   *
+   * @return 1 if the hash was replaced, otherwise 0
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("""
+      UPDATE User u
+      SET u.password = :password, u.version = u.version + 1, u.updatedAt = :now
+      WHERE u.id = :id AND u.password = :currentPassword
+      """)
+  int updatePasswordIfCurrent(@Param("id") UUID id, @Param("currentPassword") String currentPassword,
+      @Param("password") String password, @Param("now") Instant now);
+
 }
@@ -0,0 +1,24 @@
+package com.spring.app.modules.auth.repositories;
+
+import java.util.Optional;
+
+import com.spring.app.modules.auth.entities.User;
+
+/**
+ * {@link UserRepository} methods implemented against the Hibernate session
+ * instead of derived queries.
+ */
+public interface UserRepositoryCustom {
+
+  /**
+   * Loads a user by email straight from the database. This is the
+   * authentication path (login, principal lookup, OAuth2), so it never trusts
+   * the node-local second-level cache, which can hold a password hash or status
+   * that another node has already changed; the loaded row refreshes the local
+   * cache entry instead.
+   *
+   * @param email the user's email
+   * @return the user, if any
+   */
+  Optional<User> findByEmail(String email);
+}
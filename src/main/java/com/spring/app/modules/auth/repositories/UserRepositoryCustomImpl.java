@@ -0,0 +1,50 @@
+package com.spring.app.modules.auth.repositories;
+
+import java.util.Optional;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.spring.app.configs.datasource.ReadYourWritesTracker;
+import com.spring.app.modules.auth.entities.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+  private final TransactionTemplate replicaTransaction;
+  private final TransactionTemplate primaryTransaction;
+
+  public UserRepositoryCustomImpl(PlatformTransactionManager transactionManager,
+      ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+    this.readYourWritesTracker = readYourWritesTracker;
+    this.replicaTransaction = new TransactionTemplate(transactionManager);
+    this.replicaTransaction.setReadOnly(true);
+    this.primaryTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  // Per-request principal lookup; read-only so it is served by the replica when routing is enabled,
+  // except right after a write for this email (activation, reset, sign-up) when the replica may lag.
+  // The second-level cache is local to each node and never sees other nodes' writes, so this path
+  // always reads the row and only refreshes the local cache entry for the by-id paths.
+  @Override
+  public Optional<User> findByEmail(String email) {
+    ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+    TransactionTemplate transaction = tracker != null && tracker.isSticky(email)
+        ? primaryTransaction
+        : replicaTransaction;
+    return transaction.execute(status -> entityManager.unwrap(Session.class)
+        .createSelectionQuery("FROM User u WHERE u.email = :email", User.class)
+        .setParameter("email", email)
+        .setCacheMode(CacheMode.REFRESH)
+        .uniqueResultOptional());
+  }
+}
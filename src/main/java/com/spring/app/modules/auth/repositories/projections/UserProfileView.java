@@ -0,0 +1,28 @@
+package com.spring.app.modules.auth.repositories.projections;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.spring.app.enums.ERole;
+import com.spring.app.enums.EUserStatus;
+
+/**
+ * Read-only view of the profile columns of {@code users}, selected with a JPQL
+ * constructor expression so no managed entity or dirty-checking snapshot is
+ * created.
+ */
+public record UserProfileView(
+  UUID id,
+  String email,
+  String fullName,
+  String phone,
+  String avatarUrl,
+  String address,
+  LocalDate dateOfBirth,
+  EUserStatus status,
+  String description,
+  ERole role,
+  Instant createdAt,
+  Instant updatedAt
+) {}
@@ -2,7 +2,9 @@ package com.spring.app.modules.auth.services.impl;
 
 import java.time.Instant;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -13,9 +15,13 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.spring.app.common.response.ResponseBuilder;
+import com.spring.app.configs.datasource.ReadYourWritesTracker;
 import com.spring.app.configs.properties.JwtProperties;
+import com.spring.app.enums.EAuditEventType;
+import com.spring.app.enums.EOtpVerificationResult;
 import com.spring.app.enums.ERateLimitEndpoint;
 import com.spring.app.enums.EUserStatus;
 import com.spring.app.exceptions.BadRequestException;
@@ -28,16 +34,24 @@ import com.spring.app.modules.auth.dto.request.RegisterRequestDto;
 import com.spring.app.modules.auth.dto.request.ResetPasswordRequestDto;
 import com.spring.app.modules.auth.entities.RefreshToken;
 import com.spring.app.modules.auth.entities.User;
+import com.spring.app.modules.auth.events.LoggedOutEvent;
+import com.spring.app.modules.auth.events.PasswordResetEvent;
+import com.spring.app.modules.auth.events.TokenRefreshedEvent;
+import com.spring.app.modules.auth.events.UserActivatedEvent;
+import com.spring.app.modules.auth.events.UserRegisteredEvent;
 import com.spring.app.modules.auth.mapper.AuthMapper;
-import com.spring.app.modules.auth.repositories.RefreshTokenRepository;
 import com.spring.app.modules.auth.repositories.UserRepository;
 import com.spring.app.modules.auth.services.AuthServiceInterface;
 import com.spring.app.shared.interfaces.JwtServiceInterface;
 import com.spring.app.shared.interfaces.RedisServiceInterface;
+import com.spring.app.shared.services.AuditEventService;
 import com.spring.app.shared.services.AuthCacheService;
 import com.spring.app.shared.services.MonitoringService;
 import com.spring.app.shared.services.OtpEmailService;
+import com.spring.app.shared.services.PasswordRehashService;
 import com.spring.app.shared.services.RateLimitManagerService;
+import com.spring.app.shared.services.RefreshTokenStoreService;
+import com.spring.app.utils.ClientIpUtil;
 import com.spring.app.utils.JwtFunctionUtil;
 import com.spring.app.utils.OtpFunctionUtil;
 
@@ -56,7 +70,6 @@ public class AuthServiceImpl implements AuthServiceInterface {
 
   private final JwtProperties jwtProperties;
   private final UserRepository userRepository;
-  private final RefreshTokenRepository refreshTokenRepository;
   private final JwtServiceInterface jwtService;
   private final PasswordEncoder passwordEncoder;
   private final AuthenticationManager authenticationManager;
@@ -68,6 +81,13 @@ public class AuthServiceImpl implements AuthServiceInterface {
   private final AuthCacheService authCacheService;
   private final RedisServiceInterface redisService;
   private final RateLimitManagerService rateLimitManagerService;
+  private final TransactionTemplate transactionTemplate;
+  private final RefreshTokenStoreService refreshTokenStoreService;
+  private final AuditEventService auditEventService;
+  private final PasswordRehashService passwordRehashService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ClientIpUtil clientIpUtil;
+  private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
 
   /**
    * Per-email throttle for sensitive auth actions (OTP send/verify, login).
@@ -80,8 +100,13 @@ public class AuthServiceImpl implements AuthServiceInterface {
     }
   }
 
+  /**
+   * The BCrypt hash runs before the transaction, which only covers the user
+   * insert and the outbox row, so no pooled connection is held while hashing.
+   * Indexing, metrics and auditing follow from {@link UserRegisteredEvent}
+   * after commit.
+   */
   @Override
-  @Transactional
   public ResponseEntity<?> register(RegisterRequestDto dto) {
     Timer.Sample timer = monitoringService.startRegistrationTimer();
 
@@ -92,18 +117,25 @@ public class AuthServiceImpl implements AuthServiceInterface {
 
       boolean isDevMode = activeProfile.equals("dev");
 
-      if (!isDevMode) {
-        otpEmailService.sendOtpEmailAsync(emailRegister);
-      }
+      String encodedPassword = passwordEncoder.encode(dto.password());
 
-      User newUser = User.builder().email(emailRegister).password(passwordEncoder.encode(dto.password()))
+      User newUser = User.builder().email(emailRegister).password(encodedPassword)
           .status(isDevMode ? EUserStatus.ACTIVE : EUserStatus.PENDING).fullName(dto.fullName()).build();
-      userRepository.save(newUser);
 
+      // The OTP email is queued with the user row, so neither exists without the other.
+      transactionTemplate.executeWithoutResult(status -> {
+        userRepository.save(newUser);
+        if (!isDevMode) {
+          otpEmailService.enqueueOtpEmail(emailRegister);
+        }
+        recordWrite(emailRegister);
+        eventPublisher.publishEvent(new UserRegisteredEvent(newUser.getId(), emailRegister, newUser.getFullName(),
+            clientIpUtil.getCurrentClientIpAddress(), Instant.now()));
+      });
+      // Inline so the activation request that follows never sees a cached lookup from before the insert.
       authCacheService.evictCachedUser(emailRegister);
 
       var response = authMapper.userToRegisterResponseDto(newUser);
-      monitoringService.incrementRegistrationAttempts();
 
       return ResponseBuilder.created("User registered successfully", response);
     } finally {
@@ -120,13 +152,19 @@ public class AuthServiceImpl implements AuthServiceInterface {
       throw new BadRequestException("User is not in pending status, cannot resend OTP");
     }
 
-    otpEmailService.sendOtpEmailAsync(email);
+    if (!otpEmailService.enqueueOtpEmail(email)) {
+      return ResponseBuilder.success("An OTP was sent recently, please check your email");
+    }
 
     return ResponseBuilder.success("OTP resent successfully");
   }
 
+  /**
+   * The cached user only short-circuits obviously invalid requests; the
+   * activation itself is a conditional PENDING -> ACTIVE update, so a stale
+   * cache entry or a concurrent activation cannot apply it twice.
+   */
   @Override
-  @Transactional
   public ResponseEntity<?> activeAccount(ActiveAccountRequestDto dto) {
     String email = dto.email();
     String otp = dto.otp();
@@ -137,26 +175,36 @@ public class AuthServiceImpl implements AuthServiceInterface {
       throw new BadRequestException("User is not in pending status, cannot activate account");
     }
 
-    if (!otpFunction.validateOtp(email, otp)) {
-      throw new BadRequestException("Invalid or expired OTP");
-    }
+    requireValidOtp(otpFunction.verifyAndConsume(email, otp));
 
-    user.setStatus(EUserStatus.ACTIVE);
-    userRepository.save(user);
+    int updated = userRepository.transitionStatus(user.getId(), EUserStatus.PENDING, EUserStatus.ACTIVE,
+        Instant.now());
+    if (updated == 0) {
+      authCacheService.evictCachedUser(email);
+      throw new BadRequestException("User is not in pending status, cannot activate account");
+    }
 
-    otpFunction.removeOtp(email);
-    authCacheService.updateCachedUser(user);
+    recordWrite(email);
+    authCacheService.evictCachedUser(email);
+    eventPublisher.publishEvent(new UserActivatedEvent(user.getId(), email,
+        clientIpUtil.getCurrentClientIpAddress(), Instant.now()));
 
     return ResponseBuilder.success("Account activated successfully");
   }
 
+  /**
+   * Not transactional: authentication spends ~100 ms in BCrypt, and the user
+   * lookup and refresh token insert each run in their own short repository
+   * transaction, so no connection is pinned during the password check.
+   */
   @Override
-  @Transactional
   public ResponseEntity<?> login(LoginRequestDto dto) {
     Timer.Sample timer = monitoringService.startLoginTimer();
     try {
       throttleByEmail(dto.email());
       User user = authenticate(dto.email(), dto.password());
+      auditEventService.record(EAuditEventType.LOGIN_SUCCESS, user.getEmail());
+      passwordRehashService.rehashIfNeeded(user, dto.password());
 
       String accessToken = jwtService.generateToken(user);
       String refreshToken = createAndStoreRefreshToken(user);
@@ -171,8 +219,12 @@ public class AuthServiceImpl implements AuthServiceInterface {
     }
   }
 
+  /**
+   * Not transactional: queued token writes are flushed first, in their own
+   * statements, so a failure later in logout cannot roll back other users'
+   * queued inserts and revocations along with it.
+   */
   @Override
-  @Transactional
   public ResponseEntity<?> logout(HttpServletRequest request) {
     String token = jwtFunction.extractTokenFromHeader(request);
     if (token == null) {
@@ -187,11 +239,12 @@ public class AuthServiceImpl implements AuthServiceInterface {
       redisService.blacklistToken(token, remainingTtl);
     }
 
-    refreshTokenRepository.revokeAllByUser(user);
-    authCacheService.evictCachedUser(email);
+    refreshTokenStoreService.flush();
+    transactionTemplate.executeWithoutResult(status -> refreshTokenStoreService.revokeAll(user));
+    eventPublisher.publishEvent(new LoggedOutEvent(user.getId(), user.getEmail(),
+        clientIpUtil.getCurrentClientIpAddress(), Instant.now()));
 
     SecurityContextHolder.clearContext();
-    log.info("User {} logged out successfully", user.getEmail());
     return ResponseBuilder.success("User logged out successfully");
   }
 
@@ -200,18 +253,17 @@ public class AuthServiceImpl implements AuthServiceInterface {
   public ResponseEntity<?> refreshToken(RefreshTokenDto dto) {
     RefreshToken oldToken = authCacheService.getRefreshToken(dto.refreshToken());
 
-    if (oldToken.isRevoked() || oldToken.getExpiryDate().isBefore(Instant.now())) {
+    if (refreshTokenStoreService.isRevoked(oldToken) || oldToken.getExpiryDate().isBefore(Instant.now())) {
       throw new BadRequestException("Token is revoked or expired");
     }
 
-    oldToken.setRevoked(true);
-    refreshTokenRepository.save(oldToken);
-
-    authCacheService.evictCachedToken(dto.refreshToken());
+    refreshTokenStoreService.revoke(oldToken);
 
     User user = oldToken.getUser();
     String accessToken = jwtService.generateToken(user);
     String newRefreshToken = createAndStoreRefreshToken(user);
+    eventPublisher.publishEvent(new TokenRefreshedEvent(user.getId(), user.getEmail(),
+        clientIpUtil.getCurrentClientIpAddress(), Instant.now()));
 
     var response = authMapper.newTokenToTokenResponseDto(accessToken, newRefreshToken);
     return ResponseBuilder.success("Token refreshed successfully", response);
@@ -223,7 +275,7 @@ public class AuthServiceImpl implements AuthServiceInterface {
     try {
       User user = authCacheService.getUserByEmail(email);
       if (user.getStatus() == EUserStatus.ACTIVE) {
-        otpEmailService.sendOtpEmailAsync(email);
+        otpEmailService.enqueueOtpEmail(email);
       }
     } catch (ResourceNotFoundException e) {
       log.debug("Forgot password requested for non-existent email: {}", email);
@@ -231,8 +283,11 @@ public class AuthServiceImpl implements AuthServiceInterface {
     return ResponseBuilder.success("If your email is registered, you will receive an OTP shortly");
   }
 
+  /**
+   * Hashes the new password before opening the transaction, which then only
+   * covers a conditional password update and the refresh token revocation.
+   */
   @Override
-  @Transactional
   public ResponseEntity<?> resetPassword(ResetPasswordRequestDto dto) {
     throttleByEmail(dto.email());
     User user = authCacheService.getUserByEmail(dto.email());
@@ -241,20 +296,63 @@ public class AuthServiceImpl implements AuthServiceInterface {
       throw new BadRequestException("Account is not active");
     }
 
-    if (!otpFunction.validateOtp(dto.email(), dto.otp())) {
+    requireValidOtp(otpFunction.verify(dto.email(), dto.otp()));
+
+    String encodedPassword = passwordEncoder.encode(dto.newPassword());
+    refreshTokenStoreService.flush();
+
+    // Consumed only now, so a saturated hashing pool (503) or a failed flush
+    // leaves the code usable for the retry.
+    if (!otpFunction.consume(dto.email(), dto.otp())) {
       throw new BadRequestException("Invalid or expired OTP");
     }
 
-    user.setPassword(passwordEncoder.encode(dto.newPassword()));
-    userRepository.save(user);
+    boolean updated = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+      if (userRepository.updatePasswordIfStatus(user.getId(), encodedPassword, EUserStatus.ACTIVE,
+          Instant.now()) == 0) {
+        return false;
+      }
+      refreshTokenStoreService.revokeAll(user);
+      return true;
+    }));
+
+    // The cached copy now has a stale password hash and version either way.
+    authCacheService.evictCachedUser(dto.email());
+    if (!updated) {
+      throw new BadRequestException("Account is not active");
+    }
+    recordWrite(dto.email());
 
-    otpFunction.removeOtp(dto.email());
-    authCacheService.updateCachedUser(user);
-    refreshTokenRepository.revokeAllByUser(user);
+    eventPublisher.publishEvent(new PasswordResetEvent(user.getId(), user.getEmail(),
+        clientIpUtil.getCurrentClientIpAddress(), Instant.now()));
 
     return ResponseBuilder.success("Password reset successfully");
   }
 
+  /**
+   * Maps an OTP verification result to the client-facing error: returns on
+   * {@code VALID}, asks for a new code on {@code LOCKED} and rejects anything
+   * else as invalid or expired. Whether the code is consumed is up to the
+   * caller's choice of verification call.
+   */
+  private void requireValidOtp(EOtpVerificationResult result) {
+    switch (result) {
+      case VALID -> {
+      }
+      case LOCKED -> throw new BadRequestException("Too many invalid OTP attempts, please request a new OTP");
+      default -> throw new BadRequestException("Invalid or expired OTP");
+    }
+  }
+
+  /**
+   * These flows run unauthenticated, so the routing data source cannot tie
+   * their writes to a principal; pin the next login lookups for the email to
+   * the primary explicitly.
+   */
+  private void recordWrite(String email) {
+    readYourWritesTracker.ifAvailable(tracker -> tracker.recordWriteAfterCommit(email));
+  }
+
   private void validateEmailUniqueness(String email) {
     if (userRepository.existsByEmailAndStatusNot(email, EUserStatus.DELETED)) {
       throw new ConflictException("Email already registered");
@@ -267,6 +365,7 @@ public class AuthServiceImpl implements AuthServiceInterface {
       Authentication authenticated = authenticationManager.authenticate(authentication);
       return (User) authenticated.getPrincipal();
     } catch (BadCredentialsException ex) {
+      auditEventService.record(EAuditEventType.LOGIN_FAILURE, email);
       throw new UsernameNotFoundException("Invalid email or password");
     }
   }
@@ -277,7 +376,7 @@ public class AuthServiceImpl implements AuthServiceInterface {
     RefreshToken tokenEntity = authMapper.userToRefreshToken(user, refreshToken,
         Instant.now().plusMillis(jwtProperties.getRefreshExpiration()));
 
-    refreshTokenRepository.save(tokenEntity);
+    refreshTokenStoreService.store(tokenEntity);
     return refreshToken;
   }
 }
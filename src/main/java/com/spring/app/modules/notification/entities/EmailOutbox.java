@@ -0,0 +1,66 @@
+package com.spring.app.modules.notification.entities;
+
+import java.time.Instant;
+
+import com.spring.app.enums.EEmailOutboxStatus;
+import com.spring.app.enums.EEmailType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Table(name = "email_outbox")
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailOutbox {
+
+  // Auto-increment keeps claim order cheap; ids never leave the service.
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 32)
+  private EEmailType emailType;
+
+  @Column(nullable = false)
+  private String recipient;
+
+  // BCP 47 language tag of the request that queued the email.
+  @Column(length = 35)
+  private String locale;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  @Builder.Default
+  private EEmailOutboxStatus status = EEmailOutboxStatus.PENDING;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private int attempts = 0;
+
+  @Column(nullable = false)
+  private Instant nextAttemptAt;
+
+  @Column(length = 512)
+  private String lastError;
+
+  @Column(nullable = false, updatable = false)
+  private Instant createdAt;
+
+  private Instant sentAt;
+}
@@ -0,0 +1,65 @@
+package com.spring.app.modules.notification.repositories;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spring.app.modules.notification.entities.EmailOutbox;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+  /**
+   * Locks up to {@code limit} due rows, skipping rows another worker has
+   * locked. Must run inside the transaction that claims them.
+   */
+  @Query(value = """
+      SELECT * FROM email_outbox
+      WHERE status = 'PENDING' AND next_attempt_at <= :now
+      ORDER BY next_attempt_at
+      LIMIT :limit
+      FOR UPDATE SKIP LOCKED
+      """, nativeQuery = true)
+  List<EmailOutbox> lockDue(@Param("now") Instant now, @Param("limit") int limit);
+
+  @Transactional(readOnly = true)
+  @Query("SELECT MIN(o.nextAttemptAt) FROM EmailOutbox o WHERE o.status = com.spring.app.enums.EEmailOutboxStatus.PENDING")
+  Optional<Instant> findOldestPendingAttemptAt();
+
+  @Transactional
+  @Modifying
+  @Query("""
+      UPDATE EmailOutbox o
+      SET o.status = com.spring.app.enums.EEmailOutboxStatus.SENT, o.sentAt = :now, o.lastError = NULL
+      WHERE o.id IN :ids
+      """)
+  int markSent(@Param("ids") List<Long> ids, @Param("now") Instant now);
+
+  @Transactional
+  @Modifying
+  @Query("""
+      UPDATE EmailOutbox o
+      SET o.nextAttemptAt = :nextAttemptAt, o.lastError = :error
+      WHERE o.id = :id
+      """)
+  int reschedule(@Param("id") Long id, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("error") String error);
+
+  @Transactional
+  @Modifying
+  @Query("""
+      UPDATE EmailOutbox o
+      SET o.status = com.spring.app.enums.EEmailOutboxStatus.DEAD, o.lastError = :error
+      WHERE o.id = :id
+      """)
+  int markDead(@Param("id") Long id, @Param("error") String error);
+
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM EmailOutbox o WHERE o.status = com.spring.app.enums.EEmailOutboxStatus.SENT AND o.sentAt < :before")
+  int deleteSentBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,19 @@
+package com.spring.app.modules.notification.services;
+
+import java.util.Locale;
+
+import com.spring.app.enums.EEmailType;
+
+public interface EmailOutboxServiceInterface {
+
+  /**
+   * Queues an email for delivery. Joins the caller's transaction, so the email
+   * is only sent if that transaction commits.
+   *
+   * @param emailType the kind of email
+   * @param recipient the recipient address
+   * @param locale    the locale to render the email in, usually the one of the
+   *                  current request
+   */
+  void enqueue(EEmailType emailType, String recipient, Locale locale);
+}
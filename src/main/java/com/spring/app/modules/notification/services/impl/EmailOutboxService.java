@@ -0,0 +1,47 @@
+package com.spring.app.modules.notification.services.impl;
+
+import java.time.Instant;
+import java.util.Locale;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.spring.app.enums.EEmailType;
+import com.spring.app.modules.notification.entities.EmailOutbox;
+import com.spring.app.modules.notification.repositories.EmailOutboxRepository;
+import com.spring.app.modules.notification.services.EmailOutboxServiceInterface;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService implements EmailOutboxServiceInterface {
+
+  private final EmailOutboxRepository emailOutboxRepository;
+
+  @Override
+  @Transactional
+  public void enqueue(EEmailType emailType, String recipient, Locale locale) {
+    Instant now = Instant.now();
+    emailOutboxRepository.save(EmailOutbox.builder()
+        .emailType(emailType)
+        .recipient(recipient)
+        .locale(normalize(locale).toLanguageTag())
+        .nextAttemptAt(now)
+        .createdAt(now)
+        .build());
+    log.debug("Queued {} email for {}", emailType, recipient);
+  }
+
+  /**
+   * Keeps only language and country. The locale comes from the client's
+   * Accept-Language header, whose variant, script and extension subtags would
+   * make the tag unbounded; templates are only localized by language and
+   * country anyway.
+   */
+  private static Locale normalize(Locale locale) {
+    return Locale.of(locale.getLanguage(), locale.getCountry());
+  }
+}
@@ -0,0 +1,284 @@
+package com.spring.app.modules.notification.workers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.spring.app.configs.properties.EmailOutboxProperties;
+import com.spring.app.configs.properties.SmtpPoolProperties;
+import com.spring.app.enums.EEmailType;
+import com.spring.app.modules.notification.entities.EmailOutbox;
+import com.spring.app.modules.notification.repositories.EmailOutboxRepository;
+import com.spring.app.shared.interfaces.MailServiceInterface;
+import com.spring.app.shared.services.OtpEmailService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains {@code email_outbox}.
+ *
+ * <p>
+ * Each poll claims up to {@code batch-size} due rows in a short transaction
+ * ({@code FOR UPDATE SKIP LOCKED}, then pushes {@code next_attempt_at} out by
+ * the lease), sends them on {@code emailExecutor} with one pooled SMTP
+ * connection per slice of the batch and records the outcome. A failed email is
+ * retried with exponential backoff and marked {@code DEAD} after
+ * {@code max-attempts}. {@code email.outbox.lag} reports how
+ * long the oldest due email has been waiting.
+ */
+@Component
+@Slf4j
+public class EmailOutboxWorker {
+
+  private static final int MAX_ERROR_LENGTH = 512;
+  // Bounds one poll so a large backlog does not starve the other scheduled jobs.
+  private static final int MAX_BATCHES_PER_POLL = 20;
+
+  private final EmailOutboxRepository emailOutboxRepository;
+  private final OtpEmailService otpEmailService;
+  private final MailServiceInterface mailService;
+  private final Executor emailExecutor;
+  private final TransactionTemplate transactionTemplate;
+  private final EmailOutboxProperties properties;
+  private final SmtpPoolProperties smtpPoolProperties;
+
+  private final AtomicLong lagMillis = new AtomicLong();
+  private final Counter sentCounter;
+  private final Counter retriedCounter;
+  private final Counter deadCounter;
+  private final Counter coalescedCounter;
+
+  private record ClaimedEmail(Long id, EEmailType emailType, String recipient, Locale locale, int attempts) {
+  }
+
+  public EmailOutboxWorker(EmailOutboxRepository emailOutboxRepository, OtpEmailService otpEmailService,
+      MailServiceInterface mailService, @Qualifier("emailExecutor") Executor emailExecutor,
+      PlatformTransactionManager transactionManager, EmailOutboxProperties properties,
+      SmtpPoolProperties smtpPoolProperties, MeterRegistry meterRegistry) {
+    this.emailOutboxRepository = emailOutboxRepository;
+    this.otpEmailService = otpEmailService;
+    this.mailService = mailService;
+    this.smtpPoolProperties = smtpPoolProperties;
+    this.emailExecutor = emailExecutor;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.properties = properties;
+
+    TimeGauge.builder("email.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+        .description("Time the oldest due outbox email has been waiting")
+        .register(meterRegistry);
+    this.sentCounter = Counter.builder("email.outbox")
+        .tag("result", "sent")
+        .register(meterRegistry);
+    this.retriedCounter = Counter.builder("email.outbox")
+        .tag("result", "retried")
+        .register(meterRegistry);
+    this.deadCounter = Counter.builder("email.outbox")
+        .tag("result", "dead")
+        .register(meterRegistry);
+    this.coalescedCounter = Counter.builder("email.outbox")
+        .tag("result", "coalesced")
+        .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${app.email-outbox.poll-interval:1s}")
+  public void poll() {
+    try {
+      updateLag();
+      for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+        List<ClaimedEmail> batch = claim();
+        if (batch.isEmpty()) {
+          return;
+        }
+        send(batch);
+        if (batch.size() < properties.getBatchSize()) {
+          return;
+        }
+      }
+    } catch (DataAccessException e) {
+      log.warn("Email outbox poll failed: {}", e.getMessage());
+    }
+  }
+
+  @Scheduled(cron = "0 15 3 * * *")
+  public void deleteSentEmails() {
+    int deleted = emailOutboxRepository.deleteSentBefore(Instant.now().minus(properties.getSentRetention()));
+    log.info("Deleted {} sent outbox emails", deleted);
+  }
+
+  private void updateLag() {
+    Instant now = Instant.now();
+    lagMillis.set(emailOutboxRepository.findOldestPendingAttemptAt()
+        .map(oldest -> Math.max(0, Duration.between(oldest, now).toMillis()))
+        .orElse(0L));
+  }
+
+  private List<ClaimedEmail> claim() {
+    return transactionTemplate.execute(status -> {
+      Instant now = Instant.now();
+      Instant leaseExpiry = now.plus(properties.getLease());
+      List<ClaimedEmail> claimed = new ArrayList<>();
+      for (EmailOutbox email : emailOutboxRepository.lockDue(now, properties.getBatchSize())) {
+        email.setAttempts(email.getAttempts() + 1);
+        email.setNextAttemptAt(leaseExpiry);
+        // Rows queued without a locale render with the base template.
+        Locale locale = email.getLocale() == null ? Locale.ROOT : Locale.forLanguageTag(email.getLocale());
+        claimed.add(new ClaimedEmail(email.getId(), email.getEmailType(), email.getRecipient(), locale,
+            email.getAttempts()));
+      }
+      return claimed;
+    });
+  }
+
+  /**
+   * Splits the batch into one slice per SMTP connection; each slice is built
+   * and sent over a single pooled connection.
+   */
+  private void send(List<ClaimedEmail> claimed) {
+    Queue<Long> sentIds = new ConcurrentLinkedQueue<>();
+    List<ClaimedEmail> batch = coalesce(claimed, sentIds);
+    int slices = Math.min(smtpPoolProperties.getMaxConnections(), batch.size());
+    int sliceSize = (batch.size() + slices - 1) / slices;
+
+    List<CompletableFuture<Void>> deliveries = new ArrayList<>(slices);
+    for (int from = 0; from < batch.size(); from += sliceSize) {
+      List<ClaimedEmail> slice = batch.subList(from, Math.min(from + sliceSize, batch.size()));
+      deliveries.add(submit(() -> deliver(slice, sentIds)));
+    }
+    CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+
+    if (!sentIds.isEmpty()) {
+      emailOutboxRepository.markSent(List.copyOf(sentIds), Instant.now());
+      sentCounter.increment(sentIds.size() - (claimed.size() - batch.size()));
+    }
+  }
+
+  /**
+   * Keeps one email per type and recipient. The duplicates are marked sent
+   * with the batch: a single OTP email already replaces any earlier code, and
+   * if it fails its own row is retried.
+   */
+  private List<ClaimedEmail> coalesce(List<ClaimedEmail> claimed, Queue<Long> sentIds) {
+    Map<String, ClaimedEmail> unique = new LinkedHashMap<>();
+    for (ClaimedEmail email : claimed) {
+      if (unique.putIfAbsent(email.emailType() + ":" + email.recipient(), email) != null) {
+        sentIds.add(email.id());
+        coalescedCounter.increment();
+      }
+    }
+    return unique.size() == claimed.size() ? claimed : List.copyOf(unique.values());
+  }
+
+  /**
+   * Runs on {@code emailExecutor}, or on the polling thread when the executor
+   * is saturated, which slows down claiming instead of failing the email.
+   */
+  private CompletableFuture<Void> submit(Runnable task) {
+    try {
+      return CompletableFuture.runAsync(task, emailExecutor);
+    } catch (TaskRejectedException e) {
+      task.run();
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+
+  private void deliver(List<ClaimedEmail> slice, Queue<Long> sentIds) {
+    List<ClaimedEmail> built = new ArrayList<>(slice.size());
+    List<MimeMessage> messages = new ArrayList<>(slice.size());
+    for (ClaimedEmail email : slice) {
+      try {
+        messages.add(buildMessage(email));
+        built.add(email);
+      } catch (Exception e) {
+        recordFailure(email, e);
+      }
+    }
+    if (messages.isEmpty()) {
+      return;
+    }
+
+    List<Exception> results;
+    try {
+      results = mailService.sendAll(messages);
+    } catch (RuntimeException e) {
+      results = Collections.nCopies(messages.size(), e);
+    }
+    for (int i = 0; i < built.size(); i++) {
+      if (results.get(i) == null) {
+        sentIds.add(built.get(i).id());
+      } else {
+        recordFailure(built.get(i), results.get(i));
+      }
+    }
+  }
+
+  private MimeMessage buildMessage(ClaimedEmail email) throws MessagingException {
+    return switch (email.emailType()) {
+      case OTP -> otpEmailService.prepareOtpEmail(email.recipient(), email.locale());
+    };
+  }
+
+  private void recordFailure(ClaimedEmail email, Throwable cause) {
+    String message = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+    releaseResendCooldown(email);
+    try {
+      if (email.attempts() >= properties.getMaxAttempts()) {
+        emailOutboxRepository.markDead(email.id(), message);
+        deadCounter.increment();
+        log.error("Giving up on {} email {} to {} after {} attempts: {}", email.emailType(), email.id(),
+            email.recipient(), email.attempts(), message);
+        return;
+      }
+      emailOutboxRepository.reschedule(email.id(), Instant.now().plus(backoff(email.attempts())), message);
+      retriedCounter.increment();
+      log.warn("Failed to send {} email {} (attempt {}), retrying: {}", email.emailType(), email.id(),
+          email.attempts(), message);
+    } catch (DataAccessException e) {
+      // The lease expires and the email is retried anyway.
+      log.warn("Could not record failure of outbox email {}: {}", email.id(), e.getMessage());
+    }
+  }
+
+  private void releaseResendCooldown(ClaimedEmail email) {
+    try {
+      switch (email.emailType()) {
+        case OTP -> otpEmailService.onDeliveryFailed(email.recipient());
+      }
+    } catch (DataAccessException e) {
+      // The cooldown expires on its own.
+      log.warn("Could not end resend cooldown for {}: {}", email.recipient(), e.getMessage());
+    }
+  }
+
+  private Duration backoff(int attempts) {
+    Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+    return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+  }
+
+  private static String truncate(String value) {
+    return value.length() <= MAX_ERROR_LENGTH ? value : value.substring(0, MAX_ERROR_LENGTH);
+  }
+}
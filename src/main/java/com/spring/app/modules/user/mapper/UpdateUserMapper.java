@@ -29,6 +29,7 @@ public interface UpdateUserMapper {
   @Mapping(target = "updatedAt", ignore = true) // Ignore updatedAt
   @Mapping(target = "updatedBy", ignore = true) // Ignore updatedBy
   @Mapping(target = "id", ignore = true) // Ignore id
+  @Mapping(target = "version", ignore = true) // Managed by Hibernate for optimistic locking
   @Mapping(target = "authorities", ignore = true) // Ignore authorities
   void updateUserDtoToUser(UpdateUserDto updateUserDto, @MappingTarget User user);
 }
@@ -6,6 +6,7 @@ import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.spring.app.common.response.ResponseBuilder;
 import com.spring.app.configs.CacheConfig;
@@ -15,8 +16,8 @@ import com.spring.app.modules.auth.repositories.UserRepository;
 import com.spring.app.modules.user.dto.requests.UpdateUserDto;
 import com.spring.app.modules.user.mapper.UpdateUserMapper;
 import com.spring.app.modules.user.services.UserServiceInterface;
+import com.spring.app.shared.services.UserPrefixIndexService;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,14 +29,16 @@ public class UserService implements UserServiceInterface {
   private final UserRepository userRepository;
   private final AuthMapper userMapper;
   private final UpdateUserMapper updateUserMapper;
+  private final UserPrefixIndexService userPrefixIndexService;
 
   @Override
+  @Transactional(readOnly = true)
   @Cacheable(value = CacheConfig.USER_PROFILE, key = "#userId")
   public ResponseEntity<?> getUserProfile(UUID userId) {
-    var user = userRepository.findById(userId)
+    var profile = userRepository.findProfileById(userId)
         .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
-    var response = userMapper.userToUserResponseDto(user);
+    var response = userMapper.userProfileViewToUserResponseDto(profile);
 
     log.info("User profile retrieved successfully for userId: {}", userId);
     return ResponseBuilder.success("Get user profile successfully", response);
@@ -51,6 +54,7 @@ public class UserService implements UserServiceInterface {
     updateUserMapper.updateUserDtoToUser(updateUserDto, user);
 
     var userRes = userRepository.save(user);
+    userPrefixIndexService.upsertAfterCommit(userRes);
 
     var response = userMapper.userToUserResponseDto(userRes);
 
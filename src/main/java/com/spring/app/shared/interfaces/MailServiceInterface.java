@@ -1,7 +1,20 @@
 package com.spring.app.shared.interfaces;
 
+import java.util.List;
+import java.util.Locale;
+
 import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 
 public interface MailServiceInterface {
   public void sendOtpEmail(String to, String otp) throws MessagingException;
+
+  public MimeMessage buildOtpEmail(String to, String otp, Locale locale) throws MessagingException;
+
+  /**
+   * Sends the messages over one pooled SMTP connection.
+   *
+   * @return one entry per message: null if sent, otherwise the failure
+   */
+  public List<Exception> sendAll(List<MimeMessage> messages);
 }
@@ -0,0 +1,219 @@
+package com.spring.app.shared.services;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.spring.app.common.concurrent.MpscRingBuffer;
+import com.spring.app.configs.properties.AuditProperties;
+import com.spring.app.enums.EAuditEventType;
+import com.spring.app.utils.ClientIpUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records security audit events into the append-only {@code audit_events}
+ * table.
+ *
+ * <p>
+ * {@link #record(EAuditEventType, String, String)} only publishes the event
+ * into a lock-free ring buffer, so request threads never block on auditing. A
+ * single background thread drains the buffer and writes events as JDBC batch
+ * inserts. When the buffer is full the event is dropped and counted in
+ * {@code audit.events{result=dropped}}; a failed batch is counted as
+ * {@code failed}.
+ */
+@Service
+@Slf4j
+public class AuditEventService implements SmartLifecycle {
+
+  private static final String INSERT_SQL = """
+      INSERT INTO audit_events (event_type, subject, client_ip, detail, occurred_at)
+      VALUES (?, ?, ?, ?, ?)
+      """;
+  private static final String WRITER_THREAD_NAME = "AUDIT-WRITER";
+  private static final int MAX_SUBJECT_LENGTH = 255;
+  private static final int MAX_DETAIL_LENGTH = 255;
+  // audit_events.client_ip is VARCHAR(45), the longest textual IPv6 address. The value can come from a
+  // client-supplied X-Forwarded-For header, and one oversized value would fail the whole batch insert.
+  private static final int MAX_CLIENT_IP_LENGTH = 45;
+  // Stop after the web server so events from in-flight requests are still written.
+  private static final int LIFECYCLE_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ClientIpUtil clientIpUtil;
+  private final AuditProperties properties;
+  private final MpscRingBuffer<AuditEvent> buffer;
+
+  private volatile boolean running;
+  private Thread writer;
+
+  private final Counter writtenEvents;
+  private final Counter droppedEvents;
+  private final Counter failedEvents;
+  private final Timer batchTimer;
+
+  private record AuditEvent(EAuditEventType type, String subject, String clientIp, String detail,
+      Instant occurredAt) {
+  }
+
+  public AuditEventService(JdbcTemplate jdbcTemplate, ClientIpUtil clientIpUtil, AuditProperties properties,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.clientIpUtil = clientIpUtil;
+    this.properties = properties;
+    this.buffer = new MpscRingBuffer<>(properties.getBufferCapacity());
+
+    Gauge.builder("audit.events.buffered", buffer, MpscRingBuffer::size)
+        .description("Audit events waiting to be written")
+        .register(meterRegistry);
+    this.writtenEvents = Counter.builder("audit.events")
+        .tag("result", "written")
+        .register(meterRegistry);
+    this.droppedEvents = Counter.builder("audit.events")
+        .tag("result", "dropped")
+        .register(meterRegistry);
+    this.failedEvents = Counter.builder("audit.events")
+        .tag("result", "failed")
+        .register(meterRegistry);
+    this.batchTimer = Timer.builder("audit.events.batch")
+        .description("Time to write one batch of audit events")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Publishes an audit event without blocking. The client IP is taken from the
+   * request bound to the calling thread, if any.
+   *
+   * @param type    the event type
+   * @param subject the email, user id or identifier the event is about
+   * @param detail  optional free-form detail, truncated to 255 characters
+   */
+  public void record(EAuditEventType type, String subject, String detail) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    record(type, subject, detail, clientIpUtil.getCurrentClientIpAddress(), Instant.now());
+  }
+
+  /**
+   * Publishes an audit event captured elsewhere, e.g. by a domain event
+   * handled off the request thread.
+   */
+  public void record(EAuditEventType type, String subject, String detail, String clientIp, Instant occurredAt) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    AuditEvent event = new AuditEvent(type, truncate(subject, MAX_SUBJECT_LENGTH),
+        truncate(clientIp, MAX_CLIENT_IP_LENGTH), truncate(detail, MAX_DETAIL_LENGTH), occurredAt);
+    if (!running || !buffer.offer(event)) {
+      droppedEvents.increment();
+    }
+  }
+
+  public void record(EAuditEventType type, String subject) {
+    record(type, subject, null);
+  }
+
+  private void runWriter() {
+    long idleNanos = properties.getFlushInterval().toNanos();
+    List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+
+    while (running || !buffer.isEmpty()) {
+      if (buffer.drainTo(batch, properties.getBatchSize()) == 0) {
+        if (!running) {
+          break;
+        }
+        LockSupport.parkNanos(this, idleNanos);
+        continue;
+      }
+      write(batch);
+      batch.clear();
+    }
+  }
+
+  private void write(List<AuditEvent> batch) {
+    long start = System.nanoTime();
+    try {
+      jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+          AuditEvent event = batch.get(i);
+          ps.setString(1, event.type().name());
+          ps.setString(2, event.subject());
+          ps.setString(3, event.clientIp());
+          ps.setString(4, event.detail());
+          // DATETIME columns hold UTC wall-clock time (hibernate.jdbc.time_zone: UTC).
+          ps.setObject(5, LocalDateTime.ofInstant(event.occurredAt(), ZoneOffset.UTC));
+        }
+
+        @Override
+        public int getBatchSize() {
+          return batch.size();
+        }
+      });
+      writtenEvents.increment(batch.size());
+    } catch (DataAccessException e) {
+      failedEvents.increment(batch.size());
+      log.error("Failed to write {} audit events", batch.size(), e);
+    } finally {
+      batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private static String truncate(String value, int maxLength) {
+    return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+  }
+
+  @Override
+  public void start() {
+    if (!properties.isEnabled() || running) {
+      return;
+    }
+    running = true;
+    writer = Thread.ofPlatform().name(WRITER_THREAD_NAME).daemon(true).start(this::runWriter);
+  }
+
+  @Override
+  public void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    LockSupport.unpark(writer);
+    try {
+      writer.join(properties.getShutdownTimeout().toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (!buffer.isEmpty()) {
+      log.warn("{} audit events still buffered after shutdown timeout", buffer.size());
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return LIFECYCLE_PHASE;
+  }
+}
@@ -3,6 +3,7 @@ package com.spring.app.shared.services;
 import java.util.Map;
 
 import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -11,6 +12,7 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.spring.app.configs.datasource.ReadYourWritesTracker;
 import com.spring.app.configs.properties.ApplicationProperties;
 import com.spring.app.enums.EUserStatus;
 import com.spring.app.modules.auth.entities.User;
@@ -29,6 +31,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
   private final ApplicationProperties applicationProperties;
+  private final UserPrefixIndexService userPrefixIndexService;
+  private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
 
   private static final String ATTR_EMAIL = "email";
   private static final String ATTR_NAME = "name";
@@ -100,7 +104,10 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         .fullName(name)
         .build();
 
-    return userRepository.save(newUser);
+    User savedUser = userRepository.save(newUser);
+    readYourWritesTracker.ifAvailable(tracker -> tracker.recordWriteAfterCommit(email));
+    userPrefixIndexService.upsertAfterCommit(savedUser);
+    return savedUser;
   }
 
   private Map<String, Object> buildUserAttributes(User user) {
@@ -1,15 +1,18 @@
 package com.spring.app.shared.services;
 
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import com.spring.app.configs.properties.MailProperties;
 import com.spring.app.shared.interfaces.MailServiceInterface;
-import com.spring.app.templates.HtmlTemplateOTPBuilder;
+import com.spring.app.templates.EmailTemplateEngine;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -21,42 +24,33 @@ public class MailService implements MailServiceInterface {
 
   private final MailProperties mailProperties;
 
+  private static final String OTP_TEMPLATE = "otp-email";
+
+  private final SmtpTransportPool smtpTransportPool;
+
+  private final EmailTemplateEngine emailTemplateEngine;
+
   @Autowired
   private JavaMailSender mailSender;
 
   public void sendOtpEmail(String to, String otp) throws MessagingException {
-    String htmlContent = HtmlTemplateOTPBuilder.buildOtpHtml(otp);
-
-    MimeMessage message = mailSender.createMimeMessage();
-    MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-    helper.setTo(to);
-    helper.setSubject(String.format("Your OTP Code from %s", mailProperties.getApp()));
-    helper.setText(htmlContent, true);
-    helper.setFrom(mailProperties.getFrom());
-
-    mailSender.send(message);
+    smtpTransportPool.send(buildOtpEmail(to, otp, LocaleContextHolder.getLocale()));
   }
 
-  public void sendOtpEmail(String to, String subject, String content) throws MessagingException {
-    boolean isHtml = isHtmlContent(content);
+  public MimeMessage buildOtpEmail(String to, String otp, Locale locale) throws MessagingException {
+    String htmlContent = emailTemplateEngine.render(OTP_TEMPLATE, locale, Map.of("OTP", otp));
 
     MimeMessage message = mailSender.createMimeMessage();
     MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
     helper.setTo(to);
-    helper.setSubject(subject);
-    helper.setText(content, isHtml);
+    helper.setSubject(String.format("Your OTP Code from %s", mailProperties.getApp()));
+    helper.setText(htmlContent, true);
     helper.setFrom(mailProperties.getFrom());
-
-    mailSender.send(message);
+    return message;
   }
 
-  private boolean isHtmlContent(String content) {
-    try {
-      Document doc = Jsoup.parse(content);
-      return doc.body().children().size() > 0;
-    } catch (Exception e) {
-      return false;
-    }
+  public List<Exception> sendAll(List<MimeMessage> messages) {
+    return smtpTransportPool.sendAll(messages);
   }
 
 }
@@ -1,14 +1,23 @@
 package com.spring.app.shared.services;
 
+import java.util.Locale;
+
+import com.spring.app.enums.EEmailType;
+import com.spring.app.modules.notification.services.EmailOutboxServiceInterface;
 import com.spring.app.shared.interfaces.MailServiceInterface;
 import com.spring.app.utils.OtpFunctionUtil;
-import lombok.RequiredArgsConstructor;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OtpEmailService {
 
@@ -16,15 +25,79 @@ public class OtpEmailService {
 
   private final OtpFunctionUtil otpFunction;
   private final MailServiceInterface mailService;
+  private final EmailOutboxServiceInterface emailOutboxService;
+  private final Counter suppressedCounter;
+
+  public OtpEmailService(OtpFunctionUtil otpFunction, MailServiceInterface mailService,
+      EmailOutboxServiceInterface emailOutboxService, MeterRegistry meterRegistry) {
+    this.otpFunction = otpFunction;
+    this.mailService = mailService;
+    this.emailOutboxService = emailOutboxService;
+    this.suppressedCounter = Counter.builder("otp.email.suppressed")
+        .description("OTP send requests dropped because one was sent within the resend cooldown")
+        .tag("reason", "cooldown")
+        .register(meterRegistry);
+  }
 
-  @Async("emailExecutor")
-  public void sendOtpEmailAsync(String email) {
-    try {
-      String otp = otpFunction.generateOtp();
-      otpFunction.storeOtp(email, otp, OTP_EXPIRATION_SECONDS);
-      mailService.sendOtpEmail(email, otp);
-    } catch (Exception e) {
-      log.error("Failed to send OTP email to: {}", email, e);
+  /**
+   * Queues an OTP email in the outbox, as part of the caller's transaction
+   * when there is one. The OTP itself is generated when the email is sent, so
+   * it is never stored in the outbox and its lifetime starts at delivery. The
+   * locale of the current request is stored with it, since the worker that
+   * renders the email runs outside the request.
+   *
+   * <p>
+   * Requests within {@code app.otp.resend-cooldown} of the previous one are
+   * dropped: the code already sent is still valid. The cooldown starts only
+   * once the caller's transaction commits, so a rolled-back registration does
+   * not block the next attempt, and {@link #onDeliveryFailed(String)} ends it
+   * early. Concurrent requests that both pass the check queue two rows, which
+   * the outbox worker coalesces into one email.
+   *
+   * @return false if the request was dropped by the cooldown
+   */
+  public boolean enqueueOtpEmail(String email) {
+    if (otpFunction.isResendCooldownActive(email)) {
+      suppressedCounter.increment();
+      log.debug("OTP email to {} suppressed by resend cooldown", email);
+      return false;
     }
+    emailOutboxService.enqueue(EEmailType.OTP, email, LocaleContextHolder.getLocale());
+    startResendCooldownAfterCommit(email);
+    return true;
+  }
+
+  /**
+   * Called by the outbox worker when an OTP email could not be sent, whether
+   * it will be retried or was given up on. Ends the resend cooldown so the user
+   * is not told to wait for an email that has not arrived.
+   */
+  public void onDeliveryFailed(String email) {
+    otpFunction.clearResendCooldown(email);
+  }
+
+  private void startResendCooldownAfterCommit(String email) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      otpFunction.startResendCooldown(email);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        otpFunction.startResendCooldown(email);
+      }
+    });
+  }
+
+  /**
+   * Generates and stores a new OTP for the email and builds the message that
+   * delivers it. Called by
+   * {@link com.spring.app.modules.notification.workers.EmailOutboxWorker},
+   * which sends the messages of a batch together.
+   */
+  public MimeMessage prepareOtpEmail(String email, Locale locale) throws MessagingException {
+    String otp = otpFunction.generateOtp();
+    otpFunction.storeOtp(email, otp, OTP_EXPIRATION_SECONDS);
+    return mailService.buildOtpEmail(email, otp, locale);
   }
 }
@@ -0,0 +1,92 @@
+package com.spring.app.shared.services;
+
+import java.time.Instant;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.spring.app.exceptions.ServiceUnavailableException;
+import com.spring.app.modules.auth.entities.User;
+import com.spring.app.modules.auth.repositories.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rewrites a user's password hash with the current algorithm and cost after a
+ * successful login, off the request thread.
+ *
+ * <p>
+ * The rehash is best-effort: when the executor or the hashing pool is busy it
+ * is skipped and retried on a later login. The new hash is stored with a
+ * conditional update on the old hash, so it never overwrites a password reset
+ * that happened in between.
+ */
+@Service
+@Slf4j
+public class PasswordRehashService {
+
+  private final PasswordEncoder passwordEncoder;
+  private final UserRepository userRepository;
+  private final AuthCacheService authCacheService;
+  private final Executor taskExecutor;
+
+  private final Counter upgradedCounter;
+  private final Counter skippedCounter;
+
+  public PasswordRehashService(PasswordEncoder passwordEncoder, UserRepository userRepository,
+      AuthCacheService authCacheService, @Qualifier("taskExecutor") Executor taskExecutor,
+      MeterRegistry meterRegistry) {
+    this.passwordEncoder = passwordEncoder;
+    this.userRepository = userRepository;
+    this.authCacheService = authCacheService;
+    this.taskExecutor = taskExecutor;
+    this.upgradedCounter = Counter.builder("password.rehash")
+        .tag("result", "upgraded")
+        .register(meterRegistry);
+    this.skippedCounter = Counter.builder("password.rehash")
+        .tag("result", "skipped")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Schedules a rehash if the user's stored hash is outdated or too
+   * expensive. Must only be called with a password that was just verified.
+   *
+   * @param user        the authenticated user
+   * @param rawPassword the verified raw password
+   */
+  public void rehashIfNeeded(User user, String rawPassword) {
+    String currentHash = user.getPassword();
+    if (!passwordEncoder.upgradeEncoding(currentHash)) {
+      return;
+    }
+    try {
+      taskExecutor.execute(() -> rehash(user, currentHash, rawPassword));
+    } catch (TaskRejectedException e) {
+      skippedCounter.increment();
+      log.debug("Skipped password rehash for user {}: executor is busy", user.getId());
+    }
+  }
+
+  private void rehash(User user, String currentHash, String rawPassword) {
+    try {
+      String newHash = passwordEncoder.encode(rawPassword);
+      if (userRepository.updatePasswordIfCurrent(user.getId(), currentHash, newHash, Instant.now()) == 1) {
+        authCacheService.evictCachedUser(user.getEmail());
+        upgradedCounter.increment();
+        log.debug("Upgraded password hash for user {}", user.getId());
+      } else {
+        skippedCounter.increment();
+      }
+    } catch (ServiceUnavailableException | DataAccessException e) {
+      skippedCounter.increment();
+      log.warn("Password rehash for user {} failed: {}", user.getId(), e.getMessage());
+    }
+  }
+}
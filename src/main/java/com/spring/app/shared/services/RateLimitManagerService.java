@@ -1,6 +1,7 @@
 package com.spring.app.shared.services;
 
 import com.spring.app.configs.properties.RateLimitProperties;
+import com.spring.app.enums.EAuditEventType;
 import com.spring.app.enums.ERateLimitEndpoint;
 import com.spring.app.exceptions.RateLimitExceededException;
 import com.spring.app.shared.interfaces.RedisServiceInterface;
@@ -16,6 +17,7 @@ public class RateLimitManagerService {
 
   private final RedisServiceInterface redisService;
   private final RateLimitProperties rateLimitProperties;
+  private final AuditEventService auditEventService;
 
   private static final int DEFAULT_REQUESTS_PER_MINUTE = 60;
   private static final int DEFAULT_REQUESTS_PER_HOUR = 3600;
@@ -58,6 +60,7 @@ public class RateLimitManagerService {
    */
   public void checkRateLimitAndThrow(ERateLimitEndpoint endpointType, String identifier) {
     if (!checkRateLimit(endpointType, identifier)) {
+      auditEventService.record(EAuditEventType.RATE_LIMIT_REJECTED, identifier, endpointType.getEndpointType());
       RateLimitProperties.BaseRateLimitConfig config = getConfigForType(endpointType);
       String message = String.format("Rate limit exceeded for %s. Max %d requests per minute, %d per hour, %d per day",
           endpointType, config.getRequestsPerMinute(), config.getRequestsPerHour(), config.getRequestsPerDay());
@@ -0,0 +1,155 @@
+package com.spring.app.shared.services;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.spring.app.configs.properties.RefreshTokenPartitionProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the daily/weekly RANGE partitions of {@code refresh_tokens}.
+ *
+ * <p>
+ * Future partitions are split off the {@code p_future} catch-all ahead of time,
+ * and only while it is empty: splitting a non-empty partition copies its rows
+ * under a table lock. Rows reach {@code p_future} only if the horizon was
+ * outrun, e.g. after maintenance was down; the split is then skipped with a
+ * warning and has to be run by hand in a maintenance window. Partitions whose
+ * upper bound is older than the retention window are dropped. Every row in
+ * such a partition has an expiry date before the bound, so dropping it removes
+ * only expired tokens at the cost of a metadata change.
+ * Replaces {@link TokenCleanupService} when partitioning is enabled.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.refresh-token.partitioning", name = "enabled", havingValue = "true")
+public class RefreshTokenPartitionService {
+
+  private static final String TABLE_NAME = "refresh_tokens";
+  private static final String FUTURE_PARTITION = "p_future";
+  private static final String MAX_VALUE = "MAXVALUE";
+  private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+  // MySQL TO_DAYS('1970-01-01')
+  private static final long TO_DAYS_EPOCH_OFFSET = 719528L;
+
+  private static final String SELECT_PARTITIONS_SQL = """
+      SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+      FROM information_schema.PARTITIONS
+      WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+      ORDER BY PARTITION_ORDINAL_POSITION
+      """;
+
+  // Exact, unlike the TABLE_ROWS estimate in information_schema.PARTITIONS.
+  private static final String FUTURE_PARTITION_HAS_ROWS_SQL = String.format(
+      "SELECT EXISTS (SELECT 1 FROM %s PARTITION (%s))", TABLE_NAME, FUTURE_PARTITION);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final RefreshTokenPartitionProperties partitionProperties;
+
+  private record PartitionInfo(String name, LocalDate upperBound) {
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    maintainPartitions();
+  }
+
+  @Scheduled(cron = "0 30 * * * *")
+  public void maintainPartitions() {
+    try {
+      List<PartitionInfo> partitions = loadPartitions();
+      if (partitions.isEmpty()) {
+        log.warn("Table {} is not partitioned, skipping partition maintenance", TABLE_NAME);
+        return;
+      }
+
+      LocalDate today = LocalDate.now(ZoneOffset.UTC);
+      createFuturePartitions(partitions, today);
+      dropExpiredPartitions(partitions, today);
+    } catch (DataAccessException e) {
+      // Another instance may be maintaining the same table concurrently; the next run catches up.
+      log.warn("Refresh token partition maintenance failed: {}", e.getMessage());
+    }
+  }
+
+  private List<PartitionInfo> loadPartitions() {
+    return jdbcTemplate.query(SELECT_PARTITIONS_SQL, (rs, rowNum) -> {
+      String description = rs.getString("PARTITION_DESCRIPTION");
+      LocalDate upperBound = MAX_VALUE.equalsIgnoreCase(description)
+          ? null
+          : LocalDate.ofEpochDay(Long.parseLong(description) - TO_DAYS_EPOCH_OFFSET);
+      return new PartitionInfo(rs.getString("PARTITION_NAME"), upperBound);
+    }, TABLE_NAME);
+  }
+
+  private void createFuturePartitions(List<PartitionInfo> partitions, LocalDate today) {
+    int intervalDays = partitionProperties.getIntervalDays();
+    LocalDate horizon = today.plusDays((long) intervalDays * partitionProperties.getPrecreateIntervals());
+
+    LocalDate lastBound = partitions.stream()
+        .map(PartitionInfo::upperBound)
+        .filter(bound -> bound != null)
+        .max(LocalDate::compareTo)
+        .orElse(today);
+
+    List<LocalDate> newBounds = new ArrayList<>();
+    for (LocalDate bound = lastBound.plusDays(intervalDays); !bound.isAfter(horizon); bound = bound
+        .plusDays(intervalDays)) {
+      newBounds.add(bound);
+    }
+
+    if (newBounds.isEmpty()) {
+      return;
+    }
+
+    String definitions = newBounds.stream()
+        .map(bound -> String.format("PARTITION %s VALUES LESS THAN (TO_DAYS('%s'))",
+            bound.format(PARTITION_NAME_FORMAT), bound))
+        .collect(Collectors.joining(", "));
+
+    if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(FUTURE_PARTITION_HAS_ROWS_SQL, Boolean.class))) {
+      log.warn("Partition {} of {} is not empty, skipping creation of {} partitions up to {}; "
+          + "reorganize it in a maintenance window", FUTURE_PARTITION, TABLE_NAME, newBounds.size(),
+          newBounds.getLast());
+      return;
+    }
+
+    // p_future is empty, so the reorganize only rewrites metadata.
+    jdbcTemplate.execute(String.format(
+        "ALTER TABLE %s REORGANIZE PARTITION %s INTO (%s, PARTITION %s VALUES LESS THAN MAXVALUE)",
+        TABLE_NAME, FUTURE_PARTITION, definitions, FUTURE_PARTITION));
+    log.info("Created {} refresh token partitions up to {}", newBounds.size(), newBounds.getLast());
+  }
+
+  private void dropExpiredPartitions(List<PartitionInfo> partitions, LocalDate today) {
+    LocalDate cutoff = today.minusDays(partitionProperties.getRetentionDays());
+
+    List<String> expired = partitions.stream()
+        .filter(partition -> partition.upperBound() != null && !partition.upperBound().isAfter(cutoff))
+        .map(PartitionInfo::name)
+        .toList();
+
+    if (expired.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.execute(String.format("ALTER TABLE %s DROP PARTITION %s", TABLE_NAME, String.join(", ", expired)));
+    log.info("Dropped {} expired refresh token partitions: {}", expired.size(), expired);
+  }
+}
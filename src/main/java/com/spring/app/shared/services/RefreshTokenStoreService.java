@@ -0,0 +1,506 @@
+package com.spring.app.shared.services;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.spring.app.common.entities.generators.UuidFactory;
+import com.spring.app.configs.CacheConfig;
+import com.spring.app.configs.properties.RefreshTokenWriteBehindProperties;
+import com.spring.app.enums.EUuidStrategy;
+import com.spring.app.modules.auth.entities.RefreshToken;
+import com.spring.app.modules.auth.entities.User;
+import com.spring.app.modules.auth.repositories.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists refresh tokens, either synchronously through JPA or, with
+ * {@code app.refresh-token.write-behind.enabled}, write-behind.
+ *
+ * <p>
+ * In write-behind mode a new token is put into the Redis token cache, which
+ * {@link AuthCacheService#getRefreshToken(String)} reads first, so it is valid
+ * immediately. The row is queued and a background thread writes queued rows
+ * every {@code flush-interval} or {@code batch-size} rows as one JDBC batch
+ * INSERT, followed by a batch UPDATE for revocations. A full queue falls back
+ * to a synchronous write in the caller, and the queue is drained when the
+ * application stops.
+ *
+ * <p>
+ * Rows whose write fails are retried with exponential backoff. Revocations
+ * are never dropped because of a database error. A revocation that matches
+ * no row, because its token's INSERT is still queued or being retried, is
+ * retried after the inserts; it is given up only after
+ * {@code MAX_WRITE_ATTEMPTS}, when the token row evidently does not exist.
+ * Inserts are given up after the same number of failed attempts.
+ *
+ * <p>
+ * Revoking all tokens of a user also records a per-user revocation time in
+ * Redis. {@link #isRevoked(RefreshToken)} treats any token created before it
+ * as revoked, so copies still sitting in the token cache stop working
+ * immediately rather than when their cache entry expires.
+ */
+@Service
+@Slf4j
+public class RefreshTokenStoreService implements SmartLifecycle {
+
+  private static final String INSERT_SQL = """
+      INSERT INTO refresh_tokens
+        (id, token, is_revoked, expiry_date, user_id, created_by, created_at, updated_by, updated_at)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+  // expiry_date is part of the primary key and the partitioning key, so the update touches one partition.
+  private static final String REVOKE_SQL = """
+      UPDATE refresh_tokens SET is_revoked = 1, updated_by = ?, updated_at = ?
+      WHERE id = ? AND expiry_date = ?
+      """;
+  private static final String FLUSHER_THREAD_NAME = "REFRESH-TOKEN-WRITER";
+  // Stop after the web server has stopped accepting requests, so nothing is enqueued during the drain.
+  private static final int LIFECYCLE_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+  private static final String REVOKED_BEFORE_KEY_PREFIX = "refresh-token:revoked-before:";
+  // Outlives every cached copy of a token created before the revocation.
+  private static final Duration REVOKED_BEFORE_TTL = Duration.ofMinutes(2L * CacheConfig.TOKENS_CACHE_TTL_MINUTES);
+  private static final int MAX_WRITE_ATTEMPTS = 10;
+  private static final long MAX_RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final Cache tokensCache;
+  private final AuditorAware<String> auditorAware;
+  private final RefreshTokenWriteBehindProperties properties;
+  private final EUuidStrategy uuidStrategy;
+
+  private final BlockingQueue<PendingWrite> queue;
+  // Failed rows; unbounded so a database outage never drops a revocation.
+  private final Queue<PendingWrite> retries = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private volatile long retryAtNanos = System.nanoTime();
+  // Fair, so flush() from a request is not starved by the flusher re-acquiring the lock.
+  private final ReentrantLock flushLock = new ReentrantLock(true);
+  private volatile boolean running;
+  private Thread flusher;
+
+  private final Timer flushTimer;
+  private final Counter writtenRows;
+  private final Counter synchronousFallbacks;
+  private final Counter failedRows;
+  private final Counter retriedRows;
+
+  private record PendingWrite(RefreshToken token, boolean revoke, String auditor, Instant at, int attempts) {
+
+    PendingWrite(RefreshToken token, boolean revoke, String auditor, Instant at) {
+      this(token, revoke, auditor, at, 0);
+    }
+
+    PendingWrite nextAttempt() {
+      return new PendingWrite(token, revoke, auditor, at, attempts + 1);
+    }
+  }
+
+  public RefreshTokenStoreService(RefreshTokenRepository refreshTokenRepository, JdbcTemplate jdbcTemplate,
+      StringRedisTemplate stringRedisTemplate, CacheManager cacheManager, AuditorAware<String> auditorAware,
+      RefreshTokenWriteBehindProperties properties, MeterRegistry meterRegistry,
+      @Value("${spring.jpa.properties.app.jpa.uuid-strategy:random}") String uuidStrategy) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.tokensCache = cacheManager.getCache(CacheConfig.TOKENS_CACHE);
+    this.auditorAware = auditorAware;
+    this.properties = properties;
+    this.uuidStrategy = EUuidStrategy.fromValue(uuidStrategy);
+    this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+    Gauge.builder("refresh_token.write_behind.queue", queue, BlockingQueue::size)
+        .description("Refresh token writes waiting to be flushed")
+        .register(meterRegistry);
+    this.flushTimer = Timer.builder("refresh_token.write_behind.flush")
+        .description("Time to write one batch of refresh token rows")
+        .register(meterRegistry);
+    this.writtenRows = Counter.builder("refresh_token.write_behind.rows")
+        .tag("result", "written")
+        .register(meterRegistry);
+    this.failedRows = Counter.builder("refresh_token.write_behind.rows")
+        .tag("result", "failed")
+        .register(meterRegistry);
+    this.retriedRows = Counter.builder("refresh_token.write_behind.rows")
+        .tag("result", "retried")
+        .register(meterRegistry);
+    Gauge.builder("refresh_token.write_behind.retries", retries, Queue::size)
+        .description("Refresh token writes waiting to be retried after a failure")
+        .register(meterRegistry);
+    this.synchronousFallbacks = Counter.builder("refresh_token.write_behind.sync_fallback")
+        .description("Writes done synchronously because the queue was full or stopped")
+        .register(meterRegistry);
+  }
+
+  public void store(RefreshToken token) {
+    if (!properties.isEnabled()) {
+      refreshTokenRepository.save(token);
+      return;
+    }
+
+    Instant now = Instant.now();
+    String auditor = auditorAware.getCurrentAuditor().orElse(null);
+    token.setId(UuidFactory.generate(uuidStrategy));
+    token.setCreatedAt(now);
+    token.setCreatedBy(auditor);
+    token.setUpdatedAt(now);
+    token.setUpdatedBy(auditor);
+
+    tokensCache.put(token.getToken(), token);
+    enqueue(new PendingWrite(token, false, auditor, now));
+  }
+
+  /**
+   * Marks the token revoked. In write-behind mode the revoked token replaces
+   * the cached one instead of being evicted, so the token cannot be reloaded
+   * as still valid before the update is flushed.
+   */
+  public void revoke(RefreshToken token) {
+    token.setRevoked(true);
+    if (!properties.isEnabled()) {
+      refreshTokenRepository.save(token);
+      tokensCache.evict(token.getToken());
+      return;
+    }
+    tokensCache.put(token.getToken(), token);
+    enqueue(new PendingWrite(token, true, auditorAware.getCurrentAuditor().orElse(null), Instant.now()));
+  }
+
+  /**
+   * Revokes every token of the user in the database and, once the surrounding
+   * transaction commits, invalidates cached copies through the per-user
+   * revocation time. Call {@link #flush()} first, outside the transaction, so
+   * queued tokens are included and their inserts cannot be rolled back with
+   * it.
+   */
+  public void revokeAll(User user) {
+    refreshTokenRepository.revokeAllByUser(user);
+    String key = REVOKED_BEFORE_KEY_PREFIX + user.getId();
+    String revokedBefore = String.valueOf(Instant.now().toEpochMilli());
+    Runnable publish = () -> stringRedisTemplate.opsForValue().set(key, revokedBefore, REVOKED_BEFORE_TTL);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      publish.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        publish.run();
+      }
+    });
+  }
+
+  /**
+   * Whether the token is revoked, either itself or by a later
+   * {@link #revokeAll(User)} that its cached copy has not seen.
+   */
+  public boolean isRevoked(RefreshToken token) {
+    if (token.isRevoked()) {
+      return true;
+    }
+    if (token.getCreatedAt() == null || token.getUser() == null) {
+      return false;
+    }
+    String revokedBefore = stringRedisTemplate.opsForValue().get(REVOKED_BEFORE_KEY_PREFIX + token.getUser().getId());
+    return revokedBefore != null && token.getCreatedAt().toEpochMilli() <= Long.parseLong(revokedBefore);
+  }
+
+  /**
+   * Writes everything queued so far, and makes one more attempt at rows
+   * waiting to be retried. Call before bulk statements such as
+   * {@link #revokeAll(User)} so they also see tokens that are still waiting in
+   * the queue.
+   */
+  public void flush() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    flushLock.lock();
+    try {
+      List<PendingWrite> batch = new ArrayList<>();
+      // Rows failing again go back to the retries, so they are taken only once.
+      boolean includeRetries = true;
+      while (drainTo(batch, includeRetries) > 0) {
+        write(batch);
+        batch.clear();
+        includeRetries = false;
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * Fills the batch up to the batch size, with due retries first so that their
+   * inserts are written before revocations that depend on them.
+   *
+   * @return the number of rows added
+   */
+  private int drainTo(List<PendingWrite> batch, boolean includeRetries) {
+    int before = batch.size();
+    PendingWrite retry;
+    while (includeRetries && batch.size() < properties.getBatchSize() && (retry = retries.poll()) != null) {
+      batch.add(retry);
+    }
+    queue.drainTo(batch, properties.getBatchSize() - batch.size());
+    return batch.size() - before;
+  }
+
+  private boolean retryDue() {
+    return !retries.isEmpty() && System.nanoTime() - retryAtNanos >= 0;
+  }
+
+  private void enqueue(PendingWrite write) {
+    if (running && queue.offer(write)) {
+      if (queue.size() >= properties.getBatchSize()) {
+        LockSupport.unpark(flusher);
+      }
+      return;
+    }
+    synchronousFallbacks.increment();
+    write(List.of(write));
+  }
+
+  /**
+   * Waits for work without holding {@link #flushLock}, then takes at most one
+   * batch off the queue and writes it under the lock. Rows only leave the
+   * queue under the lock, so {@link #flush()} either drains a row itself or
+   * waits for the one write that contains it, never for a whole interval.
+   */
+  private void runFlusher() {
+    long intervalNanos = properties.getFlushInterval().toNanos();
+    List<PendingWrite> batch = new ArrayList<>(properties.getBatchSize());
+
+    while (running || !queue.isEmpty() || !retries.isEmpty()) {
+      if (queue.size() < properties.getBatchSize() && !retryDue()) {
+        // enqueue() unparks the flusher as soon as a full batch is waiting.
+        LockSupport.parkNanos(this, intervalNanos);
+        if (Thread.currentThread().isInterrupted()) {
+          break;
+        }
+      }
+      flushLock.lock();
+      try {
+        if (drainTo(batch, retryDue()) > 0) {
+          write(batch);
+        }
+      } finally {
+        batch.clear();
+        flushLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Inserts first, then revocations: a revocation always refers to a token
+   * queued earlier, possibly in the same batch. Failed rows go to
+   * {@link #retries}.
+   */
+  private void write(List<PendingWrite> batch) {
+    List<PendingWrite> inserts = new ArrayList<>(batch.size());
+    List<PendingWrite> revocations = new ArrayList<>();
+    for (PendingWrite write : batch) {
+      (write.revoke() ? revocations : inserts).add(write);
+    }
+
+    long start = System.nanoTime();
+    try {
+      try {
+        insert(inserts);
+      } catch (DataAccessException e) {
+        // Retry the whole batch: its revocations may refer to these inserts.
+        log.error("Failed to write {} refresh token rows, retrying", batch.size(), e);
+        retry(batch, true);
+        return;
+      }
+      writtenRows.increment(inserts.size());
+
+      List<PendingWrite> unmatched;
+      try {
+        unmatched = revoke(revocations);
+      } catch (DataAccessException e) {
+        log.error("Failed to write {} refresh token revocations, retrying", revocations.size(), e);
+        retry(revocations, true);
+        return;
+      }
+      writtenRows.increment(revocations.size() - unmatched.size());
+      consecutiveFailures.set(0);
+      if (!unmatched.isEmpty()) {
+        log.debug("{} refresh token revocations matched no row yet, retrying", unmatched.size());
+        retry(unmatched, false);
+      }
+    } finally {
+      flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void insert(List<PendingWrite> inserts) {
+    if (inserts.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        PendingWrite write = inserts.get(i);
+        RefreshToken token = write.token();
+        ps.setBytes(1, toBytes(token.getId()));
+        ps.setString(2, token.getToken());
+        ps.setBoolean(3, token.isRevoked());
+        ps.setObject(4, toUtc(token.getExpiryDate()));
+        ps.setBytes(5, toBytes(token.getUser().getId()));
+        ps.setString(6, write.auditor());
+        ps.setObject(7, toUtc(write.at()));
+        ps.setString(8, write.auditor());
+        ps.setObject(9, toUtc(write.at()));
+      }
+
+      @Override
+      public int getBatchSize() {
+        return inserts.size();
+      }
+    });
+  }
+
+  /**
+   * @return the revocations that matched no row
+   */
+  private List<PendingWrite> revoke(List<PendingWrite> revocations) {
+    if (revocations.isEmpty()) {
+      return List.of();
+    }
+    int[] counts = jdbcTemplate.batchUpdate(REVOKE_SQL, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        PendingWrite write = revocations.get(i);
+        ps.setString(1, write.auditor());
+        ps.setObject(2, toUtc(write.at()));
+        ps.setBytes(3, toBytes(write.token().getId()));
+        ps.setObject(4, toUtc(write.token().getExpiryDate()));
+      }
+
+      @Override
+      public int getBatchSize() {
+        return revocations.size();
+      }
+    });
+    List<PendingWrite> unmatched = new ArrayList<>();
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] == 0) {
+        unmatched.add(revocations.get(i));
+      }
+    }
+    return unmatched;
+  }
+
+  /**
+   * Queues the rows for another attempt after a backoff. Revocations that hit
+   * a database error are always kept; other rows are given up after
+   * {@link #MAX_WRITE_ATTEMPTS}.
+   *
+   * @param databaseError whether the write failed, as opposed to a revocation
+   *                      that matched no row
+   */
+  private void retry(List<PendingWrite> rows, boolean databaseError) {
+    for (PendingWrite row : rows) {
+      PendingWrite next = row.nextAttempt();
+      if (next.attempts() >= MAX_WRITE_ATTEMPTS && !(row.revoke() && databaseError)) {
+        // An insert is lost: the token works from the cache until it expires, then the user signs in again.
+        // A revocation that never matched has no row that could be reloaded as valid.
+        failedRows.increment();
+        log.error("Giving up on refresh token {} {} after {} attempts", row.revoke() ? "revocation" : "insert",
+            row.token().getId(), next.attempts());
+        continue;
+      }
+      retries.add(next);
+      retriedRows.increment();
+    }
+    if (databaseError) {
+      int failures = Math.min(consecutiveFailures.incrementAndGet(), 20);
+      long backoff = Math.min(properties.getFlushInterval().toNanos() << failures, MAX_RETRY_BACKOFF_NANOS);
+      retryAtNanos = System.nanoTime() + backoff;
+    }
+  }
+
+  private static byte[] toBytes(UUID uuid) {
+    return ByteBuffer.allocate(16)
+        .putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits())
+        .array();
+  }
+
+  // DATETIME columns hold UTC wall-clock time (hibernate.jdbc.time_zone: UTC).
+  private static LocalDateTime toUtc(Instant instant) {
+    return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+
+  @Override
+  public void start() {
+    if (!properties.isEnabled() || running) {
+      return;
+    }
+    running = true;
+    flusher = Thread.ofPlatform().name(FLUSHER_THREAD_NAME).daemon(true).start(this::runFlusher);
+  }
+
+  @Override
+  public void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    try {
+      flusher.join(properties.getShutdownTimeout().toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (!queue.isEmpty() || !retries.isEmpty()) {
+      log.warn("{} refresh token writes still queued and {} awaiting retry after shutdown timeout", queue.size(),
+          retries.size());
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return LIFECYCLE_PHASE;
+  }
+}
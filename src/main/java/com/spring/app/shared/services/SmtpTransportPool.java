@@ -0,0 +1,270 @@
+package com.spring.app.shared.services;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.spring.app.configs.properties.SmtpPoolProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps authenticated SMTP connections open and sends several messages per
+ * connection, instead of the connect/STARTTLS/AUTH round trips that
+ * {@code JavaMailSender#send} pays for every message.
+ *
+ * <p>
+ * Uses the session, host and credentials of the {@link JavaMailSenderImpl}
+ * bean, so pointing {@code spring.mail.host/port} at a local SMTP stand-in
+ * such as GreenMail works unchanged. Sends across all connections are spaced
+ * to {@code max-messages-per-second} for the configured provider.
+ */
+@Component
+@Slf4j
+public class SmtpTransportPool implements DisposableBean {
+
+  private final JavaMailSenderImpl mailSender;
+  private final SmtpPoolProperties properties;
+
+  private final LinkedBlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+  private final Semaphore permits;
+  private final AtomicLong nextSendSlot = new AtomicLong();
+  private final long sendIntervalNanos;
+
+  private final Counter openedCounter;
+  private final Counter reusedCounter;
+  private final Counter closedCounter;
+  private final Timer sendTimer;
+  private final Timer throttleTimer;
+
+  private static final class PooledTransport {
+    private final Transport transport;
+    private int messagesSent;
+    private long lastUsedNanos = System.nanoTime();
+
+    private PooledTransport(Transport transport) {
+      this.transport = transport;
+    }
+  }
+
+  public SmtpTransportPool(JavaMailSenderImpl mailSender, SmtpPoolProperties properties,
+      MeterRegistry meterRegistry) {
+    this.mailSender = mailSender;
+    this.properties = properties;
+    this.permits = new Semaphore(properties.getMaxConnections());
+    this.sendIntervalNanos = properties.getMaxMessagesPerSecond() == 0
+        ? 0
+        : TimeUnit.SECONDS.toNanos(1) / properties.getMaxMessagesPerSecond();
+
+    String host = String.valueOf(mailSender.getHost());
+    Gauge.builder("mail.smtp.connections.idle", idle, LinkedBlockingDeque::size)
+        .tag("host", host)
+        .register(meterRegistry);
+    Gauge.builder("mail.smtp.connections.active", permits,
+        p -> properties.getMaxConnections() - p.availablePermits())
+        .tag("host", host)
+        .register(meterRegistry);
+    this.openedCounter = Counter.builder("mail.smtp.connections")
+        .tag("host", host).tag("event", "opened")
+        .register(meterRegistry);
+    this.reusedCounter = Counter.builder("mail.smtp.connections")
+        .tag("host", host).tag("event", "reused")
+        .register(meterRegistry);
+    this.closedCounter = Counter.builder("mail.smtp.connections")
+        .tag("host", host).tag("event", "closed")
+        .register(meterRegistry);
+    this.sendTimer = Timer.builder("mail.smtp.send")
+        .tag("host", host)
+        .register(meterRegistry);
+    this.throttleTimer = Timer.builder("mail.smtp.throttle.wait")
+        .description("Time spent waiting for the provider send-rate limit")
+        .tag("host", host)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Sends the messages in order over pooled connections, moving to a fresh
+   * connection whenever the current one reaches
+   * {@code max-messages-per-connection}.
+   *
+   * @param messages the messages to send
+   * @return one entry per message: {@code null} if it was sent, otherwise the
+   *         exception it failed with
+   */
+  public List<Exception> sendAll(List<MimeMessage> messages) {
+    List<Exception> results = new ArrayList<>(messages.size());
+    PooledTransport pooled = null;
+    try {
+      for (MimeMessage message : messages) {
+        try {
+          if (pooled == null) {
+            pooled = borrow();
+          }
+          send(pooled, message);
+          results.add(null);
+          if (pooled.messagesSent >= properties.getMaxMessagesPerConnection()) {
+            release(pooled);
+            pooled = null;
+          }
+        } catch (MessagingException | InterruptedException e) {
+          if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+          }
+          results.add(e);
+          if (pooled != null && !pooled.transport.isConnected()) {
+            discard(pooled);
+            pooled = null;
+          }
+        }
+      }
+    } finally {
+      if (pooled != null) {
+        release(pooled);
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Sends a single message over a pooled connection.
+   */
+  public void send(MimeMessage message) throws MessagingException {
+    Exception failure = sendAll(List.of(message)).getFirst();
+    if (failure instanceof MessagingException messagingException) {
+      throw messagingException;
+    }
+    if (failure != null) {
+      throw new MessagingException("Interrupted while sending email", failure);
+    }
+  }
+
+  private void send(PooledTransport pooled, MimeMessage message) throws MessagingException, InterruptedException {
+    throttle();
+    if (message.getSentDate() == null) {
+      message.setSentDate(new Date());
+    }
+    message.saveChanges();
+
+    long start = System.nanoTime();
+    try {
+      pooled.transport.sendMessage(message, message.getAllRecipients());
+      pooled.messagesSent++;
+    } finally {
+      sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Reserves the next send slot for the provider and sleeps until it arrives.
+   */
+  private void throttle() throws InterruptedException {
+    if (sendIntervalNanos == 0) {
+      return;
+    }
+    long now = System.nanoTime();
+    long slot = nextSendSlot.getAndUpdate(previous -> Math.max(previous, now) + sendIntervalNanos);
+    long waitNanos = slot - now;
+    if (waitNanos > 0) {
+      throttleTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  private PooledTransport borrow() throws MessagingException, InterruptedException {
+    if (!permits.tryAcquire(properties.getBorrowTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+      throw new MessagingException("Timed out waiting for an SMTP connection");
+    }
+    try {
+      PooledTransport pooled;
+      while ((pooled = idle.pollFirst()) != null) {
+        if (isReusable(pooled)) {
+          reusedCounter.increment();
+          return pooled;
+        }
+        close(pooled);
+      }
+      return open();
+    } catch (MessagingException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private PooledTransport open() throws MessagingException {
+    Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+    transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(),
+        mailSender.getPassword());
+    openedCounter.increment();
+    return new PooledTransport(transport);
+  }
+
+  private void release(PooledTransport pooled) {
+    // Liveness is checked on borrow; isConnected() costs an SMTP NOOP round trip.
+    if (pooled.messagesSent >= properties.getMaxMessagesPerConnection()) {
+      close(pooled);
+    } else {
+      pooled.lastUsedNanos = System.nanoTime();
+      // Most recently used first, so surplus connections age out at the tail.
+      idle.offerFirst(pooled);
+    }
+    permits.release();
+  }
+
+  private void discard(PooledTransport pooled) {
+    close(pooled);
+    permits.release();
+  }
+
+  private boolean isReusable(PooledTransport pooled) {
+    return System.nanoTime() - pooled.lastUsedNanos < properties.getMaxIdle().toNanos()
+        && pooled.transport.isConnected();
+  }
+
+  private void close(PooledTransport pooled) {
+    try {
+      pooled.transport.close();
+    } catch (MessagingException e) {
+      log.debug("Failed to close SMTP connection cleanly: {}", e.getMessage());
+    }
+    closedCounter.increment();
+  }
+
+  /**
+   * Closes idle connections before the server times them out.
+   */
+  @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
+  public void evictIdle() {
+    PooledTransport pooled;
+    while ((pooled = idle.pollLast()) != null) {
+      if (System.nanoTime() - pooled.lastUsedNanos < properties.getMaxIdle().toNanos()) {
+        idle.offerLast(pooled);
+        return;
+      }
+      close(pooled);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    PooledTransport pooled;
+    while ((pooled = idle.pollFirst()) != null) {
+      close(pooled);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.spring.app.shared.services;
 
 import java.time.Instant;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnProperty(prefix = "app.refresh-token.partitioning", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class TokenCleanupService {
 
   private final RefreshTokenRepository refreshTokenRepository;
@@ -0,0 +1,489 @@
+package com.spring.app.shared.services;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.spring.app.modules.admin.dto.response.UserSuggestionDto;
+import com.spring.app.modules.auth.entities.User;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process prefix index over normalized emails and full names, backing the
+ * admin user autocomplete without a database query per keystroke.
+ *
+ * <p>
+ * The bulk of the index is an immutable snapshot: every key is stored as UTF-8
+ * in one sorted byte array, so a lookup is a binary search followed by a short
+ * forward scan. Writes go to a small concurrent delta plus a tombstone for the
+ * user's previous keys, and a scheduled compaction folds the delta into a new
+ * snapshot. A periodic reload from the database catches writes made by other
+ * instances. Readers never lock; writers serialize on a {@link ReentrantLock}.
+ * Deleted users are left out of the index.
+ */
+@Service
+@Slf4j
+public class UserPrefixIndexService {
+
+  private static final String SELECT_USERS_SQL = "SELECT id, email, full_name FROM users WHERE status <> 'DELETED'";
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern WORD_SEPARATOR = Pattern.compile("\\s+");
+  private static final char DELTA_KEY_SEPARATOR = '\u0000';
+  private static final int MAX_SCAN_PER_LOOKUP = 1_000;
+  // Rough per-object overhead of a UUID plus two display Strings on a 64-bit JVM.
+  private static final long USER_OVERHEAD_BYTES = 32 + 2 * 40;
+
+  private final JdbcTemplate streamingJdbcTemplate;
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private final ReentrantLock compactionLock = new ReentrantLock();
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+  private final ConcurrentSkipListMap<String, Pending> delta = new ConcurrentSkipListMap<>();
+  private final Map<UUID, Long> tombstones = new ConcurrentHashMap<>();
+  // Guarded by writeLock.
+  private final Map<UUID, Pending> pendingById = new HashMap<>();
+  private long tombstoneSequence;
+  // Tombstone sequence when the running reload started its scan, or
+  // Long.MAX_VALUE. Compactions during the scan keep newer writes, which the
+  // scanned rows may predate, for the reload to apply over them.
+  private volatile long scanStartSequence = Long.MAX_VALUE;
+
+  /**
+   * A user written since the last compaction. Compared by identity so
+   * compaction only removes the exact entries it folded in.
+   */
+  private static final class Pending {
+    private final UserSuggestionDto user;
+    private final List<String> keys;
+
+    private Pending(UserSuggestionDto user, List<String> keys) {
+      this.user = user;
+      this.keys = keys;
+    }
+  }
+
+  private record Match(String key, UserSuggestionDto user) {
+  }
+
+  public UserPrefixIndexService(DataSource dataSource, MeterRegistry meterRegistry) {
+    this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+    // MySQL Connector/J streams rows one by one only with this fetch size.
+    this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+
+    Gauge.builder("user.prefix.index.memory", this, index -> index.snapshot.estimatedBytes)
+        .description("Estimated heap used by the user prefix index snapshot")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("user.prefix.index.entries", this, index -> index.snapshot.keyCount())
+        .tag("segment", "snapshot")
+        .register(meterRegistry);
+    Gauge.builder("user.prefix.index.entries", delta, Map::size)
+        .tag("segment", "delta")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    reload();
+  }
+
+  /**
+   * Rebuilds the snapshot from the database. Writes made through this
+   * instance show up immediately; this picks up users written by other
+   * instances or outside these code paths within one interval. Writes made
+   * while the scan runs are kept in the delta until the scanned rows replace
+   * the snapshot, so a row read before such a write cannot overwrite it.
+   */
+  @Scheduled(fixedDelayString = "${app.user-prefix-index.reload-interval:5m}",
+      initialDelayString = "${app.user-prefix-index.reload-interval:5m}")
+  public void reload() {
+    long start = System.nanoTime();
+    List<UserSuggestionDto> users = new ArrayList<>();
+    writeLock.lock();
+    try {
+      scanStartSequence = tombstoneSequence;
+    } finally {
+      writeLock.unlock();
+    }
+    try {
+      streamingJdbcTemplate.query(SELECT_USERS_SQL, rs -> {
+        ByteBuffer id = ByteBuffer.wrap(rs.getBytes("id"));
+        users.add(new UserSuggestionDto(new UUID(id.getLong(), id.getLong()),
+            rs.getString("email"), rs.getString("full_name")));
+      });
+      compact(users, Long.MAX_VALUE);
+    } finally {
+      scanStartSequence = Long.MAX_VALUE;
+    }
+    log.info("User prefix index built with {} users in {} ms", users.size(),
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /**
+   * Returns up to {@code limit} users whose email, full name or any word of the
+   * full name starts with {@code query}, ordered by the matched key.
+   */
+  public List<UserSuggestionDto> lookup(String query, int limit) {
+    String prefix = normalize(query);
+    if (prefix.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    Map<UUID, Match> matches = new LinkedHashMap<>();
+    snapshot.collect(prefix.getBytes(StandardCharsets.UTF_8), limit, tombstones, matches);
+
+    int fromDelta = 0;
+    for (Map.Entry<String, Pending> entry : delta.subMap(prefix, prefix + Character.MAX_VALUE).entrySet()) {
+      if (fromDelta++ >= limit) {
+        break;
+      }
+      String key = entry.getKey().substring(0, entry.getKey().indexOf(DELTA_KEY_SEPARATOR));
+      UserSuggestionDto user = entry.getValue().user;
+      Match previous = matches.get(user.id());
+      if (previous == null || key.compareTo(previous.key()) < 0) {
+        matches.put(user.id(), new Match(key, user));
+      }
+    }
+
+    return matches.values().stream()
+        .sorted(Comparator.comparing(Match::key))
+        .limit(limit)
+        .map(Match::user)
+        .toList();
+  }
+
+  /**
+   * Indexes the user's current email and name once the surrounding
+   * transaction commits, or immediately outside a transaction.
+   */
+  public void upsertAfterCommit(User user) {
+    UserSuggestionDto suggestion = new UserSuggestionDto(user.getId(), user.getEmail(), user.getFullName());
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      upsert(suggestion);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        upsert(suggestion);
+      }
+    });
+  }
+
+  public void upsert(UserSuggestionDto user) {
+    upsertAll(List.of(user));
+  }
+
+  /**
+   * Indexes several users under a single acquisition of the write lock.
+   */
+  public void upsertAll(Collection<UserSuggestionDto> users) {
+    List<Pending> pendings = new ArrayList<>(users.size());
+    for (UserSuggestionDto user : users) {
+      pendings.add(new Pending(user, keysOf(user)));
+    }
+    writeLock.lock();
+    try {
+      for (Pending pending : pendings) {
+        UUID userId = pending.user.id();
+        removePending(pendingById.put(userId, pending));
+        tombstones.put(userId, ++tombstoneSequence);
+        for (String key : pending.keys) {
+          delta.put(deltaKey(key, userId), pending);
+        }
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public void remove(UUID userId) {
+    writeLock.lock();
+    try {
+      removePending(pendingById.remove(userId));
+      tombstones.put(userId, ++tombstoneSequence);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Folds the delta into a new snapshot. The snapshot is built outside the
+   * lock from a captured view of the delta; entries written meanwhile stay in
+   * the delta with a newer tombstone and are folded in by the next run.
+   * While a reload scan runs, entries newer than its start are folded in but
+   * also kept in the delta.
+   */
+  @Scheduled(fixedDelay = 30_000, initialDelay = 30_000)
+  public void compact() {
+    if (delta.isEmpty() && tombstones.isEmpty()) {
+      return;
+    }
+    compact(null, scanStartSequence);
+  }
+
+  private void compact(List<UserSuggestionDto> reloadedUsers, long retainAfter) {
+    compactionLock.lock();
+    try {
+      rebuildSnapshot(reloadedUsers, retainAfter);
+    } finally {
+      compactionLock.unlock();
+    }
+  }
+
+  private void rebuildSnapshot(List<UserSuggestionDto> reloadedUsers, long retainAfter) {
+    List<Pending> capturedPending;
+    Map<UUID, Long> capturedTombstones;
+    Snapshot base;
+    writeLock.lock();
+    try {
+      capturedPending = new ArrayList<>(pendingById.values());
+      capturedTombstones = new HashMap<>(tombstones);
+      base = snapshot;
+    } finally {
+      writeLock.unlock();
+    }
+
+    List<UserSuggestionDto> users = new ArrayList<>();
+    if (reloadedUsers != null) {
+      for (UserSuggestionDto user : reloadedUsers) {
+        if (!capturedTombstones.containsKey(user.id())) {
+          users.add(user);
+        }
+      }
+    } else {
+      base.forEachUser(user -> {
+        if (!capturedTombstones.containsKey(user.id())) {
+          users.add(user);
+        }
+      });
+    }
+    capturedPending.forEach(pending -> users.add(pending.user));
+    Snapshot rebuilt = Snapshot.build(users);
+
+    writeLock.lock();
+    try {
+      snapshot = rebuilt;
+      for (Pending pending : capturedPending) {
+        if (capturedTombstones.getOrDefault(pending.user.id(), 0L) <= retainAfter
+            && pendingById.remove(pending.user.id(), pending)) {
+          removePending(pending);
+        }
+      }
+      // Only the captured sequence, so a write made during the rebuild keeps
+      // hiding the user's older snapshot keys.
+      capturedTombstones.forEach((userId, sequence) -> {
+        if (sequence <= retainAfter) {
+          tombstones.remove(userId, sequence);
+        }
+      });
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private void removePending(Pending pending) {
+    if (pending == null) {
+      return;
+    }
+    for (String key : pending.keys) {
+      delta.remove(deltaKey(key, pending.user.id()), pending);
+    }
+  }
+
+  private static String deltaKey(String key, UUID id) {
+    return key + DELTA_KEY_SEPARATOR + id;
+  }
+
+  static List<String> keysOf(UserSuggestionDto user) {
+    Set<String> keys = new LinkedHashSet<>();
+    addKey(keys, user.email());
+    if (user.fullName() != null) {
+      String fullName = normalize(user.fullName());
+      addKey(keys, fullName);
+      // Later words, so "smi" also finds "John Smith".
+      String[] words = WORD_SEPARATOR.split(fullName);
+      for (int i = 1; i < words.length; i++) {
+        addKey(keys, words[i]);
+      }
+    }
+    return List.copyOf(keys);
+  }
+
+  private static void addKey(Set<String> keys, String value) {
+    if (value != null) {
+      String key = normalize(value);
+      if (!key.isEmpty()) {
+        keys.add(key);
+      }
+    }
+  }
+
+  static String normalize(String value) {
+    if (value == null) {
+      return "";
+    }
+    String decomposed = Normalizer.normalize(value.strip(), Normalizer.Form.NFKD);
+    return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Immutable sorted key array. Key {@code i} occupies
+   * {@code keyBytes[keyOffsets[i] .. keyOffsets[i + 1])} and belongs to user
+   * {@code keyOwners[i]}.
+   */
+  private static final class Snapshot {
+
+    private static final Snapshot EMPTY = build(List.of());
+
+    private final UUID[] ids;
+    private final String[] emails;
+    private final String[] fullNames;
+    private final byte[] keyBytes;
+    private final int[] keyOffsets;
+    private final int[] keyOwners;
+    private final long estimatedBytes;
+
+    private Snapshot(UUID[] ids, String[] emails, String[] fullNames, byte[] keyBytes, int[] keyOffsets,
+        int[] keyOwners) {
+      this.ids = ids;
+      this.emails = emails;
+      this.fullNames = fullNames;
+      this.keyBytes = keyBytes;
+      this.keyOffsets = keyOffsets;
+      this.keyOwners = keyOwners;
+      this.estimatedBytes = estimateBytes();
+    }
+
+    private record KeyEntry(byte[] key, int owner) {
+    }
+
+    static Snapshot build(List<UserSuggestionDto> users) {
+      int userCount = users.size();
+      UUID[] ids = new UUID[userCount];
+      String[] emails = new String[userCount];
+      String[] fullNames = new String[userCount];
+      List<KeyEntry> entries = new ArrayList<>(userCount * 3);
+      long totalKeyBytes = 0;
+
+      for (int owner = 0; owner < userCount; owner++) {
+        UserSuggestionDto user = users.get(owner);
+        ids[owner] = user.id();
+        emails[owner] = user.email();
+        fullNames[owner] = user.fullName();
+        for (String key : keysOf(user)) {
+          byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+          entries.add(new KeyEntry(bytes, owner));
+          totalKeyBytes += bytes.length;
+        }
+      }
+
+      // Unsigned byte order of UTF-8 equals code point order.
+      entries.sort((a, b) -> Arrays.compareUnsigned(a.key(), b.key()));
+
+      byte[] keyBytes = new byte[Math.toIntExact(totalKeyBytes)];
+      int[] keyOffsets = new int[entries.size() + 1];
+      int[] keyOwners = new int[entries.size()];
+      int offset = 0;
+      for (int i = 0; i < entries.size(); i++) {
+        KeyEntry entry = entries.get(i);
+        keyOffsets[i] = offset;
+        keyOwners[i] = entry.owner();
+        System.arraycopy(entry.key(), 0, keyBytes, offset, entry.key().length);
+        offset += entry.key().length;
+      }
+      keyOffsets[entries.size()] = offset;
+
+      return new Snapshot(ids, emails, fullNames, keyBytes, keyOffsets, keyOwners);
+    }
+
+    int keyCount() {
+      return keyOwners.length;
+    }
+
+    void forEachUser(Consumer<UserSuggestionDto> consumer) {
+      for (int owner = 0; owner < ids.length; owner++) {
+        consumer.accept(user(owner));
+      }
+    }
+
+    void collect(byte[] prefix, int limit, Map<UUID, Long> tombstones, Map<UUID, Match> matches) {
+      int scanned = 0;
+      for (int i = lowerBound(prefix); i < keyOwners.length && matches.size() < limit
+          && scanned < MAX_SCAN_PER_LOOKUP && startsWith(i, prefix); i++, scanned++) {
+        int owner = keyOwners[i];
+        if (!tombstones.containsKey(ids[owner]) && !matches.containsKey(ids[owner])) {
+          String key = new String(keyBytes, keyOffsets[i], keyOffsets[i + 1] - keyOffsets[i], StandardCharsets.UTF_8);
+          matches.put(ids[owner], new Match(key, user(owner)));
+        }
+      }
+    }
+
+    private UserSuggestionDto user(int owner) {
+      return new UserSuggestionDto(ids[owner], emails[owner], fullNames[owner]);
+    }
+
+    private int lowerBound(byte[] prefix) {
+      int low = 0;
+      int high = keyOwners.length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (Arrays.compareUnsigned(keyBytes, keyOffsets[mid], keyOffsets[mid + 1], prefix, 0, prefix.length) < 0) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+
+    private boolean startsWith(int index, byte[] prefix) {
+      int start = keyOffsets[index];
+      int length = keyOffsets[index + 1] - start;
+      return length >= prefix.length
+          && Arrays.equals(keyBytes, start, start + prefix.length, prefix, 0, prefix.length);
+    }
+
+    private long estimateBytes() {
+      long bytes = keyBytes.length + 4L * keyOffsets.length + 4L * keyOwners.length + 12L * ids.length;
+      for (int owner = 0; owner < ids.length; owner++) {
+        bytes += USER_OVERHEAD_BYTES + length(emails[owner]) + length(fullNames[owner]);
+      }
+      return bytes;
+    }
+
+    private static int length(String value) {
+      return value != null ? value.length() : 0;
+    }
+  }
+}
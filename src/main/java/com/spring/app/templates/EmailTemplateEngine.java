@@ -0,0 +1,148 @@
+package com.spring.app.templates;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Renders the HTML email templates under {@code classpath:templates/}.
+ *
+ * <p>
+ * Every {@code *.html} file is read once at startup and compiled into
+ * alternating literal and {@code {{NAME}}} placeholder segments, so rendering
+ * only appends into a pre-sized output buffer. Localized variants follow the
+ * {@link java.util.ResourceBundle} naming: {@code otp-email_vi_VN.html}, then
+ * {@code otp-email_vi.html}, then {@code otp-email.html}; only the language and
+ * country of the requested locale are used. Lookups go straight to the
+ * compiled templates, which are keyed by those candidate names, so nothing is
+ * cached per requested locale (it comes from the client's Accept-Language).
+ * Variable values are HTML-escaped; a placeholder without a value renders as
+ * an empty string.
+ */
+@Component
+@Slf4j
+public class EmailTemplateEngine {
+
+  private static final String LOCATION_PATTERN = "classpath:templates/*.html";
+  private static final String SUFFIX = ".html";
+  private static final String OPEN = "{{";
+  private static final String CLOSE = "}}";
+
+  private final Map<String, CompiledTemplate> templates;
+
+  public EmailTemplateEngine() throws IOException {
+    Map<String, CompiledTemplate> compiled = new HashMap<>();
+    for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION_PATTERN)) {
+      String filename = resource.getFilename();
+      if (filename == null) {
+        continue;
+      }
+      try (InputStream in = resource.getInputStream()) {
+        String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        compiled.put(filename.substring(0, filename.length() - SUFFIX.length()), compile(source));
+      }
+    }
+    this.templates = Map.copyOf(compiled);
+    log.info("Compiled {} email templates: {}", templates.size(), templates.keySet());
+  }
+
+  /**
+   * @throws IllegalArgumentException if neither the template nor any of its
+   *                                  localized variants exists
+   */
+  public String render(String name, Locale locale, Map<String, String> variables) {
+    return resolve(name, locale).render(variables);
+  }
+
+  private CompiledTemplate resolve(String name, Locale locale) {
+    List<String> candidates = new ArrayList<>(3);
+    if (!locale.getCountry().isEmpty()) {
+      candidates.add(name + "_" + locale.getLanguage() + "_" + locale.getCountry());
+    }
+    if (!locale.getLanguage().isEmpty()) {
+      candidates.add(name + "_" + locale.getLanguage());
+    }
+    candidates.add(name);
+
+    for (String candidate : candidates) {
+      CompiledTemplate template = templates.get(candidate);
+      if (template != null) {
+        return template;
+      }
+    }
+    throw new IllegalArgumentException("Email template not found: " + name);
+  }
+
+  private static CompiledTemplate compile(String source) {
+    List<String> literals = new ArrayList<>();
+    List<String> placeholders = new ArrayList<>();
+
+    int from = 0;
+    int open;
+    while ((open = source.indexOf(OPEN, from)) >= 0) {
+      int close = source.indexOf(CLOSE, open + OPEN.length());
+      if (close < 0) {
+        break;
+      }
+      literals.add(source.substring(from, open));
+      placeholders.add(source.substring(open + OPEN.length(), close).trim());
+      from = close + CLOSE.length();
+    }
+    literals.add(source.substring(from));
+
+    int literalLength = literals.stream().mapToInt(String::length).sum();
+    return new CompiledTemplate(literals.toArray(String[]::new), placeholders.toArray(String[]::new), literalLength);
+  }
+
+  /**
+   * {@code literals} has one more entry than {@code placeholders}; rendering
+   * interleaves them starting and ending with a literal.
+   */
+  private record CompiledTemplate(String[] literals, String[] placeholders, int literalLength) {
+
+    String render(Map<String, String> variables) {
+      int capacity = literalLength;
+      for (String placeholder : placeholders) {
+        String value = variables.get(placeholder);
+        if (value != null) {
+          capacity += value.length();
+        }
+      }
+
+      StringBuilder out = new StringBuilder(capacity);
+      for (int i = 0; i < placeholders.length; i++) {
+        out.append(literals[i]);
+        appendEscaped(out, variables.get(placeholders[i]));
+      }
+      return out.append(literals[placeholders.length]).toString();
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+      if (value == null) {
+        return;
+      }
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        switch (c) {
+          case '<' -> out.append("&lt;");
+          case '>' -> out.append("&gt;");
+          case '&' -> out.append("&amp;");
+          case '"' -> out.append("&quot;");
+          case '\'' -> out.append("&#39;");
+          default -> out.append(c);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.spring.app.utils;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.spring.app.configs.properties.ApplicationProperties;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ClientIpUtil {
+
+  private final ApplicationProperties applicationProperties;
+
+  /**
+   * Resolves the client address of the given request. Forwarding headers are
+   * only honoured when the direct peer is one of
+   * {@code application.trusted-proxies}, so clients cannot spoof them.
+   *
+   * @param request the HTTP request
+   * @return the client IP address
+   */
+  public String getClientIpAddress(HttpServletRequest request) {
+    String remoteAddr = request.getRemoteAddr();
+    if (!isTrustedProxy(remoteAddr)) {
+      return remoteAddr;
+    }
+
+    String xForwardedFor = request.getHeader("X-Forwarded-For");
+    if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
+      return xForwardedFor.split(",")[0].trim();
+    }
+
+    String xRealIp = request.getHeader("X-Real-IP");
+    if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
+      return xRealIp;
+    }
+
+    return remoteAddr;
+  }
+
+  /**
+   * @return the client IP address of the request bound to the current thread,
+   *         or null outside of a request
+   */
+  public String getCurrentClientIpAddress() {
+    if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+      return getClientIpAddress(attributes.getRequest());
+    }
+    return null;
+  }
+
+  private boolean isTrustedProxy(String remoteAddr) {
+    if (applicationProperties.getTrustedProxies() == null || applicationProperties.getTrustedProxies().isBlank()) {
+      return false;
+    }
+    String[] proxies = applicationProperties.getTrustedProxies().split(",");
+    for (String proxy : proxies) {
+      if (remoteAddr.equals(proxy.trim())) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
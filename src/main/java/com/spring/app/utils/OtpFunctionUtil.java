@@ -1,21 +1,101 @@
 package com.spring.app.utils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
-import com.spring.app.shared.interfaces.RedisServiceInterface;
+import com.spring.app.configs.properties.OtpProperties;
+import com.spring.app.enums.EOtpVerificationResult;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Issues and verifies OTPs.
+ *
+ * <p>
+ * An OTP is stored as the Redis hash {@code otp:{email}} with the SHA-256 of
+ * the code, the number of wrong attempts and the issue time. Storing,
+ * verifying and consuming are each a single Lua script, so a code can only be
+ * consumed once and every wrong guess is counted against it, even under
+ * concurrent requests. Callers with expensive work between the check and the
+ * write can {@link #verify(String, String)} first and
+ * {@link #consume(String, String)} right before the write, so a failure in
+ * between leaves the code usable.
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class OtpFunctionUtil {
 
-  private final RedisServiceInterface redisService;
+  private static final String KEY_PREFIX = "otp:";
+  private static final String COOLDOWN_KEY_PREFIX = "otp:cooldown:";
+  private static final int DEFAULT_OTP_LENGTH = 6;
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  /**
+   * KEYS[1] = otp key; ARGV = code hash, issued-at epoch seconds, TTL seconds.
+   * Replaces any outstanding code and resets its attempts.
+   */
+  private static final RedisScript<Long> STORE_SCRIPT = RedisScript.of("""
+      redis.call('DEL', KEYS[1])
+      redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0, 'issued_at', ARGV[2])
+      redis.call('EXPIRE', KEYS[1], ARGV[3])
+      return 1
+      """, Long.class);
+
+  /**
+   * KEYS[1] = otp key, KEYS[2] = resend cooldown key; ARGV = code hash, max
+   * attempts, whether to consume ("1") a matching code. Returns 1 when the code
+   * matched (and deletes it if asked to), 0 for a wrong guess, -1 when there is
+   * no code and -2 when the wrong guess used up the last attempt (and deletes
+   * it). A deleted code also ends the resend cooldown, since there is nothing
+   * left to wait for.
+   */
+  private static final RedisScript<Long> VERIFY_SCRIPT = RedisScript.of("""
+      local code = redis.call('HGET', KEYS[1], 'code')
+      if not code then
+        return -1
+      end
+      if code == ARGV[1] then
+        if ARGV[3] == '1' then
+          redis.call('DEL', KEYS[1], KEYS[2])
+        end
+        return 1
+      end
+      local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+      if attempts >= tonumber(ARGV[2]) then
+        redis.call('DEL', KEYS[1], KEYS[2])
+        return -2
+      end
+      return 0
+      """, Long.class);
+
+  /**
+   * KEYS[1] = otp key, KEYS[2] = resend cooldown key; ARGV = code hash. Deletes
+   * the code and returns 1 if it still matches, otherwise returns 0 without
+   * counting an attempt.
+   */
+  private static final RedisScript<Long> CONSUME_SCRIPT = RedisScript.of("""
+      if redis.call('HGET', KEYS[1], 'code') == ARGV[1] then
+        redis.call('DEL', KEYS[1], KEYS[2])
+        return 1
+      end
+      return 0
+      """, Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final OtpProperties otpProperties;
 
   /**
    * Generates a random OTP (One Time Password) of the specified length.
@@ -24,86 +104,144 @@ public class OtpFunctionUtil {
    * @return A string representing the generated OTP.
    */
   public String generateOtp(int length) {
-    StringBuilder otp = new StringBuilder();
+    char[] otp = new char[length];
     for (int i = 0; i < length; i++) {
-      otp.append((int) (Math.random() * 10));
+      otp[i] = (char) ('0' + RANDOM.nextInt(10));
     }
-    return otp.toString();
+    return new String(otp);
   }
 
   /**
    * Generates a random OTP (One Time Password) of length 6 digits.
-   * 
+   *
    * @return A string representing the generated OTP.
    */
   public String generateOtp() {
-    return generateOtp(6); // Default OTP length is 6 digits
+    return generateOtp(DEFAULT_OTP_LENGTH);
   }
 
   /**
-   * Stores the OTP in Redis with a specified key and expiration time.
+   * Stores the OTP for the email, replacing any outstanding one.
    *
-   * @param key                     The key under which the OTP will be stored.
+   * @param email                   The email the OTP was issued to.
    * @param otp                     The OTP to be stored.
    * @param expirationTimeInSeconds The expiration time for the OTP in seconds.
    */
-  public void storeOtp(String key, String otp, long expirationTimeInSeconds) {
-    Objects.requireNonNull(key, "Key must not be null");
+  public void storeOtp(String email, String otp, long expirationTimeInSeconds) {
+    Objects.requireNonNull(email, "Email must not be null");
     Objects.requireNonNull(otp, "OTP must not be null");
     if (expirationTimeInSeconds <= 0) {
       throw new IllegalArgumentException("Expiration time must be positive");
     }
-    redisService.setValue(key, otp, expirationTimeInSeconds, TimeUnit.SECONDS);
+    stringRedisTemplate.execute(STORE_SCRIPT, List.of(key(email)), hash(email, otp),
+        String.valueOf(Instant.now().getEpochSecond()), String.valueOf(expirationTimeInSeconds));
   }
 
   /**
-   * Retrieves the OTP from Redis using the specified key.
+   * Checks the OTP for the email and consumes it on a match, in one atomic
+   * step. A wrong guess counts as an attempt; the code is burned once
+   * {@code app.otp.max-attempts} is reached.
    *
-   * @param key The key under which the OTP is stored.
-   * @return The OTP if found, null otherwise.
+   * @param email The email the OTP was issued to.
+   * @param otp   The OTP supplied by the user.
+   * @return The outcome of the verification.
    */
-  public String retrieveOtp(String key) {
-    return (String) redisService.getValue(key);
+  public EOtpVerificationResult verifyAndConsume(String email, String otp) {
+    return verify(email, otp, true);
   }
 
   /**
-   * Deletes the OTP from Redis using the specified key.
+   * Checks the OTP for the email without consuming it on a match. A wrong
+   * guess counts as an attempt, as in {@link #verifyAndConsume(String, String)}.
    *
-   * @param key The key under which the OTP is stored.
+   * @param email The email the OTP was issued to.
+   * @param otp   The OTP supplied by the user.
+   * @return The outcome of the verification.
    */
-  public void deleteOtp(String key) {
-    redisService.delete(key);
+  public EOtpVerificationResult verify(String email, String otp) {
+    return verify(email, otp, false);
   }
 
   /**
-   * Validates the OTP against the stored value in Redis.
+   * Consumes the OTP for the email if it still matches, i.e. it was not
+   * consumed, replaced or burned since it was verified.
    *
-   * @param key The key under which the OTP is stored.
-   * @param otp The OTP to be validated.
-   * @return True if the OTP matches the stored value, false otherwise.
+   * @param email The email the OTP was issued to.
+   * @param otp   The OTP supplied by the user.
+   * @return True if this call consumed the code.
    */
-  public boolean validateOtp(String key, String otp) {
-    String storedOtp = retrieveOtp(key);
-    return storedOtp != null && storedOtp.equals(otp) && validateOtp(otp);
+  public boolean consume(String email, String otp) {
+    if (email == null || otp == null) {
+      return false;
+    }
+    Long result = stringRedisTemplate.execute(CONSUME_SCRIPT, List.of(key(email), cooldownKey(email)),
+        hash(email, otp));
+    return result != null && result == 1L;
   }
 
+  private EOtpVerificationResult verify(String email, String otp, boolean consume) {
+    if (email == null || otp == null) {
+      return EOtpVerificationResult.EXPIRED;
+    }
+    Long result = stringRedisTemplate.execute(VERIFY_SCRIPT, List.of(key(email), cooldownKey(email)),
+        hash(email, otp), String.valueOf(otpProperties.getMaxAttempts()), consume ? "1" : "0");
+    if (result == null) {
+      return EOtpVerificationResult.EXPIRED;
+    }
+    return switch (result.intValue()) {
+      case 1 -> EOtpVerificationResult.VALID;
+      case 0 -> EOtpVerificationResult.INVALID;
+      case -2 -> {
+        log.warn("OTP for {} burned after {} invalid attempts", email, otpProperties.getMaxAttempts());
+        yield EOtpVerificationResult.LOCKED;
+      }
+      default -> EOtpVerificationResult.EXPIRED;
+    };
+  }
 
   /**
-   * Removes the OTP from Redis after successful activation or validation.
+   * @param email The email an OTP is about to be sent to.
+   * @return True while an earlier OTP for the email is still cooling down.
+   */
+  public boolean isResendCooldownActive(String email) {
+    return Boolean.TRUE.equals(stringRedisTemplate.hasKey(cooldownKey(email)));
+  }
+
+  /**
+   * Starts, or restarts, the resend cooldown for the email.
    *
-   * @param key The key under which the OTP is stored.
+   * @param email The email an OTP was queued for.
    */
-  public void removeOtp(String key) {
-    deleteOtp(key);
+  public void startResendCooldown(String email) {
+    stringRedisTemplate.opsForValue().set(cooldownKey(email), "1", otpProperties.getResendCooldown());
   }
 
   /**
-   * Validates the OTP against a predefined pattern.
+   * Ends the resend cooldown for the email, so a new OTP can be requested
+   * right away.
    *
-   * @param otp The OTP to be validated.
-   * @return True if the OTP is valid, false otherwise.
+   * @param email The email whose OTP could not be delivered.
    */
-  private boolean validateOtp(String otp) {
-    return otp.matches("\\d{6}");
+  public void clearResendCooldown(String email) {
+    stringRedisTemplate.delete(cooldownKey(email));
+  }
+
+  // The hash tag keeps all keys of one email in the same cluster slot.
+  private static String key(String email) {
+    return KEY_PREFIX + "{" + email + "}";
+  }
+
+  private static String cooldownKey(String email) {
+    return COOLDOWN_KEY_PREFIX + "{" + email + "}";
+  }
+
+  // Salted with the email so equal codes of different users hash differently.
+  private static String hash(String email, String otp) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest((email + ":" + otp).getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
   }
 }
@@ -0,0 +1,29 @@
+-- Refresh tokens table — must match com.spring.app.modules.auth.entities.RefreshToken
+-- (+ BaseEntity UUID id, + BaseAuditingEntity audit columns)
+--
+-- The table is RANGE-partitioned by expiry_date so retention is a partition drop
+-- (metadata-only) instead of a row-by-row DELETE. MySQL requires the partitioning
+-- column to be part of every unique key, hence the composite primary key, and
+-- partitioned InnoDB tables cannot carry foreign keys, hence no FK to users.
+--
+-- Only the MAXVALUE catch-all partition is created here; dated partitions are
+-- split off it ahead of time by RefreshTokenPartitionService when
+-- app.refresh-token.partitioning.enabled=true. With partitioning disabled every
+-- row lives in p_future and TokenCleanupService deletes rows as before.
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id          BINARY(16)   NOT NULL,
+    token       VARCHAR(512),
+    is_revoked  BIT          NOT NULL,
+    expiry_date DATETIME(6)  NOT NULL,
+    user_id     BINARY(16),
+    created_by  VARCHAR(255),
+    created_at  DATETIME(6)  NOT NULL,
+    updated_by  VARCHAR(255),
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id, expiry_date),
+    KEY idx_refresh_tokens_token (token),
+    KEY idx_refresh_tokens_user_revoked (user_id, is_revoked)
+)
+PARTITION BY RANGE (TO_DAYS(expiry_date)) (
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
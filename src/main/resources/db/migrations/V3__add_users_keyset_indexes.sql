@@ -0,0 +1,5 @@
+-- Keyset pagination for the admin user listing walks (created_at, id) in descending order.
+-- The filtered variants keep status/role filters on the same index range.
+CREATE INDEX idx_users_created_at_id ON users (created_at, id);
+CREATE INDEX idx_users_status_created_at_id ON users (status, created_at, id);
+CREATE INDEX idx_users_role_created_at_id ON users (role, created_at, id);
@@ -0,0 +1,5 @@
+-- Admin user search. The ngram parser indexes overlapping character bigrams
+-- (ngram_token_size, default 2), so fragments of names and emails are found
+-- without a leading-wildcard LIKE scan. Phone numbers are searched by prefix.
+ALTER TABLE users ADD FULLTEXT INDEX ftx_users_full_name_email (full_name, email) WITH PARSER ngram;
+CREATE INDEX idx_users_phone ON users (phone);
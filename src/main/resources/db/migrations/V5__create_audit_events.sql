@@ -0,0 +1,14 @@
+-- Append-only security audit trail written in batches by AuditEventService.
+-- Rows are never updated; `subject` is the email, user id or rate-limit identifier
+-- the event is about, and `client_ip` is the resolved caller address.
+CREATE TABLE IF NOT EXISTS audit_events (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    event_type  VARCHAR(32)  NOT NULL,
+    subject     VARCHAR(255),
+    client_ip   VARCHAR(45),
+    detail      VARCHAR(255),
+    occurred_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_audit_events_subject_occurred_at (subject, occurred_at),
+    KEY idx_audit_events_type_occurred_at (event_type, occurred_at)
+);
@@ -0,0 +1,3 @@
+-- Optimistic locking for com.spring.app.modules.auth.entities.User (@Version).
+-- Conditional status/password updates in UserRepository bump it as well.
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
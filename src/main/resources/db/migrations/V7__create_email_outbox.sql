@@ -0,0 +1,18 @@
+-- Durable queue of outgoing emails — must match com.spring.app.modules.notification.entities.EmailOutbox.
+-- Rows are written in the request transaction and claimed by EmailOutboxWorker with
+-- SELECT ... FOR UPDATE SKIP LOCKED, so several instances can drain it concurrently.
+-- next_attempt_at doubles as the claim lease: a claimed row is pushed into the future
+-- and becomes due again if its worker dies before recording the result.
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    email_type      VARCHAR(32)  NOT NULL,
+    recipient       VARCHAR(255) NOT NULL,
+    status          VARCHAR(16)  NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(512),
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id),
+    KEY idx_email_outbox_status_next_attempt (status, next_attempt_at)
+);
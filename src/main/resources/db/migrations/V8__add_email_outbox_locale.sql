@@ -0,0 +1,4 @@
+-- Locale of the request that queued the email (BCP 47 language tag), so the worker
+-- renders the template in the recipient's language rather than its own default.
+-- Rows queued before this column existed render with the base template.
+ALTER TABLE email_outbox ADD COLUMN locale VARCHAR(35);
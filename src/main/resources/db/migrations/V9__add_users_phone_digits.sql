@@ -0,0 +1,7 @@
+-- Phone prefix search. Stored phones may be formatted with spaces, dots, dashes
+-- or parentheses, so search runs on a copy without them; the search term is
+-- stripped the same way. It replaces the index on the raw phone.
+ALTER TABLE users ADD COLUMN phone_digits VARCHAR(255)
+    AS (REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(phone, ' ', ''), '.', ''), '-', ''), '(', ''), ')', '')) STORED;
+CREATE INDEX idx_users_phone_digits ON users (phone_digits);
+DROP INDEX idx_users_phone ON users;
@@ -0,0 +1,140 @@
+package com.spring.app.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class CombiningBatcherTests {
+
+  @Test
+  void rejectsMaxBatchSizeBelowOne() {
+    assertThatThrownBy(() -> new CombiningBatcher<String>("test", 0, batch -> {
+    })).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void handlesLoneItemImmediately() {
+    List<List<String>> batches = new ArrayList<>();
+    CombiningBatcher<String> batcher = new CombiningBatcher<>("test", 10, batches::add);
+
+    batcher.submit("a");
+
+    assertThat(batches).containsExactly(List.of("a"));
+  }
+
+  @Test
+  void combinerDrainsItemsQueuedWhileBusyInBatchesOfMaxSize() throws Exception {
+    List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CombiningBatcher<String> batcher = new CombiningBatcher<>("test", 2, batch -> {
+      batches.add(List.copyOf(batch));
+      if (batch.contains("a")) {
+        entered.countDown();
+        await(release);
+      }
+    });
+
+    Thread combiner = new Thread(() -> batcher.submit("a"));
+    combiner.start();
+    assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // The combiner is busy, so these only queue and return.
+    for (String item : List.of("b", "c", "d", "e", "f")) {
+      batcher.submit(item);
+    }
+    assertThat(batches).containsExactly(List.of("a"));
+
+    release.countDown();
+    combiner.join(TimeUnit.SECONDS.toMillis(5));
+
+    assertThat(batches).containsExactly(List.of("a"), List.of("b", "c"), List.of("d", "e"), List.of("f"));
+  }
+
+  @Test
+  void deliversEveryItemOnceWithoutConcurrentConsumerCalls() throws Exception {
+    int threads = 8;
+    int itemsPerThread = 5_000;
+    int maxBatchSize = 64;
+    AtomicInteger delivered = new AtomicInteger();
+    AtomicInteger oversized = new AtomicInteger();
+    AtomicBoolean inConsumer = new AtomicBoolean();
+    AtomicInteger overlapping = new AtomicInteger();
+    boolean[] seen = new boolean[threads * itemsPerThread];
+
+    CombiningBatcher<Integer> batcher = new CombiningBatcher<>("test", maxBatchSize, batch -> {
+      if (!inConsumer.compareAndSet(false, true)) {
+        overlapping.incrementAndGet();
+      }
+      if (batch.size() > maxBatchSize) {
+        oversized.incrementAndGet();
+      }
+      for (int item : batch) {
+        seen[item] = true;
+      }
+      delivered.addAndGet(batch.size());
+      inConsumer.set(false);
+    });
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        int offset = t * itemsPerThread;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < itemsPerThread; i++) {
+            batcher.submit(offset + i);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(delivered).hasValue(threads * itemsPerThread);
+    assertThat(overlapping).hasValue(0);
+    assertThat(oversized).hasValue(0);
+    for (boolean item : seen) {
+      assertThat(item).isTrue();
+    }
+  }
+
+  @Test
+  void keepsCombiningAfterConsumerFailure() {
+    List<List<String>> batches = new ArrayList<>();
+    CombiningBatcher<String> batcher = new CombiningBatcher<>("test", 10, batch -> {
+      if (batch.contains("boom")) {
+        throw new IllegalStateException("boom");
+      }
+      batches.add(batch);
+    });
+
+    batcher.submit("boom");
+    batcher.submit("a");
+
+    assertThat(batches).containsExactly(List.of("a"));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package com.spring.app.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class MpscRingBufferTests {
+
+  @Test
+  void rejectsCapacityBelowTwo() {
+    assertThatThrownBy(() -> new MpscRingBuffer<String>(1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void roundsCapacityUpToPowerOfTwo() {
+    assertThat(new MpscRingBuffer<String>(2).capacity()).isEqualTo(2);
+    assertThat(new MpscRingBuffer<String>(3).capacity()).isEqualTo(4);
+    assertThat(new MpscRingBuffer<String>(1000).capacity()).isEqualTo(1024);
+    assertThat(new MpscRingBuffer<String>(1024).capacity()).isEqualTo(1024);
+  }
+
+  @Test
+  void pollsInOfferOrder() {
+    MpscRingBuffer<String> buffer = new MpscRingBuffer<>(4);
+
+    assertThat(buffer.poll()).isNull();
+    assertThat(buffer.offer("a")).isTrue();
+    assertThat(buffer.offer("b")).isTrue();
+    assertThat(buffer.size()).isEqualTo(2);
+
+    assertThat(buffer.poll()).isEqualTo("a");
+    assertThat(buffer.poll()).isEqualTo("b");
+    assertThat(buffer.poll()).isNull();
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+
+  @Test
+  void rejectsOfferWhenFullAndAcceptsAgainAfterPoll() {
+    MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+    for (int i = 0; i < 4; i++) {
+      assertThat(buffer.offer(i)).isTrue();
+    }
+
+    assertThat(buffer.offer(4)).isFalse();
+    assertThat(buffer.size()).isEqualTo(4);
+
+    assertThat(buffer.poll()).isZero();
+    assertThat(buffer.offer(4)).isTrue();
+  }
+
+  @Test
+  void wrapsAroundManyTimes() {
+    MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(buffer.offer(i)).isTrue();
+      assertThat(buffer.offer(-i)).isTrue();
+      assertThat(buffer.poll()).isEqualTo(i);
+      assertThat(buffer.poll()).isEqualTo(-i);
+    }
+    assertThat(buffer.isEmpty()).isTrue();
+  }
+
+  @Test
+  void drainToStopsAtMaxElements() {
+    MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+    for (int i = 0; i < 5; i++) {
+      buffer.offer(i);
+    }
+    List<Integer> target = new ArrayList<>();
+
+    assertThat(buffer.drainTo(target, 3)).isEqualTo(3);
+    assertThat(target).containsExactly(0, 1, 2);
+
+    assertThat(buffer.drainTo(target, 10)).isEqualTo(2);
+    assertThat(target).containsExactly(0, 1, 2, 3, 4);
+    assertThat(buffer.drainTo(target, 10)).isZero();
+  }
+
+  @Test
+  void concurrentProducersLoseNothingAndKeepPerProducerOrder() throws Exception {
+    int producers = 4;
+    int itemsPerProducer = 50_000;
+    MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(256);
+    CountDownLatch start = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(producers);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int p = 0; p < producers; p++) {
+        long producer = p;
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (long i = 0; i < itemsPerProducer; i++) {
+            long[] item = { producer, i };
+            while (!buffer.offer(item)) {
+              Thread.onSpinWait();
+            }
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+
+      long[] nextExpected = new long[producers];
+      int received = 0;
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      while (received < producers * itemsPerProducer && System.nanoTime() < deadline) {
+        long[] item = buffer.poll();
+        if (item == null) {
+          Thread.onSpinWait();
+          continue;
+        }
+        assertThat(item[1]).isEqualTo(nextExpected[(int) item[0]]);
+        nextExpected[(int) item[0]]++;
+        received++;
+      }
+
+      for (Future<?> future : futures) {
+        future.get(5, TimeUnit.SECONDS);
+      }
+      assertThat(received).isEqualTo(producers * itemsPerProducer);
+      assertThat(buffer.poll()).isNull();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.spring.app.shared.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.spring.app.configs.properties.SmtpPoolProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+class SmtpTransportPoolTests {
+
+  @RegisterExtension
+  static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+  private SmtpTransportPool pool;
+
+  @AfterEach
+  void closePool() {
+    if (pool != null) {
+      pool.destroy();
+    }
+  }
+
+  @Test
+  void reusesConnectionAcrossSends() throws Exception {
+    pool = newPool(100, 0);
+
+    assertThat(pool.sendAll(messages(2))).containsOnlyNulls();
+    assertThat(pool.sendAll(messages(1))).containsOnlyNulls();
+
+    assertThat(greenMail.getReceivedMessages()).hasSize(3);
+    assertThat(connections("opened")).isEqualTo(1);
+    assertThat(connections("reused")).isEqualTo(1);
+  }
+
+  @Test
+  void rotatesConnectionAfterMaxMessagesPerConnection() throws Exception {
+    pool = newPool(2, 0);
+
+    assertThat(pool.sendAll(messages(5))).hasSize(5).containsOnlyNulls();
+
+    assertThat(greenMail.getReceivedMessages()).hasSize(5);
+    assertThat(connections("opened")).isEqualTo(3);
+    // The third connection has sent a single message and stays idle in the pool.
+    assertThat(connections("closed")).isEqualTo(2);
+  }
+
+  @Test
+  void spacesSendsToMaxMessagesPerSecond() throws Exception {
+    pool = newPool(100, 10);
+
+    long start = System.nanoTime();
+    assertThat(pool.sendAll(messages(5))).containsOnlyNulls();
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    // The first send goes out immediately, the other four wait 100 ms each.
+    assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(400));
+    assertThat(meterRegistry.get("mail.smtp.throttle.wait").timer().count()).isEqualTo(4);
+    assertThat(greenMail.getReceivedMessages()).hasSize(5);
+  }
+
+  private SmtpTransportPool newPool(int maxMessagesPerConnection, int maxMessagesPerSecond) {
+    mailSender.setHost("localhost");
+    mailSender.setPort(greenMail.getSmtp().getPort());
+
+    SmtpPoolProperties properties = new SmtpPoolProperties();
+    properties.setMaxConnections(1);
+    properties.setMaxMessagesPerConnection(maxMessagesPerConnection);
+    properties.setMaxMessagesPerSecond(maxMessagesPerSecond);
+    return new SmtpTransportPool(mailSender, properties, meterRegistry);
+  }
+
+  private List<MimeMessage> messages(int count) throws MessagingException {
+    List<MimeMessage> messages = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      MimeMessage message = mailSender.createMimeMessage();
+      MimeMessageHelper helper = new MimeMessageHelper(message);
+      helper.setFrom("noreply@example.com");
+      helper.setTo("user" + i + "@example.com");
+      helper.setSubject("Message " + i);
+      helper.setText("Body " + i);
+      messages.add(message);
+    }
+    return messages;
+  }
+
+  private double connections(String event) {
+    return meterRegistry.get("mail.smtp.connections").tag("event", event).counter().count();
+  }
+}
@@ -0,0 +1,136 @@
+package com.spring.app.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.spring.app.configs.properties.OtpProperties;
+import com.spring.app.enums.EOtpVerificationResult;
+
+@Testcontainers(disabledWithoutDocker = true)
+class OtpFunctionUtilTests {
+
+  private static final String EMAIL = "user@example.com";
+  private static final String CODE = "123456";
+  private static final String WRONG_CODE = "000000";
+  private static final int MAX_ATTEMPTS = 3;
+
+  @Container
+  static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+      .withExposedPorts(6379);
+
+  private static LettuceConnectionFactory connectionFactory;
+  private static StringRedisTemplate redisTemplate;
+
+  private OtpFunctionUtil otpFunction;
+
+  @BeforeAll
+  static void connect() {
+    connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+    redisTemplate = new StringRedisTemplate(connectionFactory);
+  }
+
+  @AfterAll
+  static void disconnect() {
+    connectionFactory.destroy();
+  }
+
+  @BeforeEach
+  void setUp() {
+    redisTemplate.execute((RedisCallback<Void>) connection -> {
+      connection.serverCommands().flushAll();
+      return null;
+    });
+    OtpProperties properties = new OtpProperties();
+    properties.setMaxAttempts(MAX_ATTEMPTS);
+    otpFunction = new OtpFunctionUtil(redisTemplate, properties);
+    otpFunction.storeOtp(EMAIL, CODE, 60);
+  }
+
+  @Test
+  void verifyAndConsumeAcceptsCodeOnce() {
+    assertThat(otpFunction.verifyAndConsume(EMAIL, CODE)).isEqualTo(EOtpVerificationResult.VALID);
+    assertThat(otpFunction.verifyAndConsume(EMAIL, CODE)).isEqualTo(EOtpVerificationResult.EXPIRED);
+  }
+
+  @Test
+  void wrongGuessesBurnCodeAtMaxAttempts() {
+    for (int i = 1; i < MAX_ATTEMPTS; i++) {
+      assertThat(otpFunction.verifyAndConsume(EMAIL, WRONG_CODE)).isEqualTo(EOtpVerificationResult.INVALID);
+    }
+    assertThat(otpFunction.verifyAndConsume(EMAIL, WRONG_CODE)).isEqualTo(EOtpVerificationResult.LOCKED);
+    assertThat(otpFunction.verifyAndConsume(EMAIL, CODE)).isEqualTo(EOtpVerificationResult.EXPIRED);
+  }
+
+  @Test
+  void storingNewCodeResetsAttempts() {
+    for (int i = 1; i < MAX_ATTEMPTS; i++) {
+      otpFunction.verifyAndConsume(EMAIL, WRONG_CODE);
+    }
+    otpFunction.storeOtp(EMAIL, CODE, 60);
+
+    assertThat(otpFunction.verifyAndConsume(EMAIL, WRONG_CODE)).isEqualTo(EOtpVerificationResult.INVALID);
+    assertThat(otpFunction.verifyAndConsume(EMAIL, CODE)).isEqualTo(EOtpVerificationResult.VALID);
+  }
+
+  @Test
+  void verifyLeavesCodeForConsume() {
+    assertThat(otpFunction.verify(EMAIL, CODE)).isEqualTo(EOtpVerificationResult.VALID);
+    assertThat(otpFunction.verify(EMAIL, CODE)).isEqualTo(EOtpVerificationResult.VALID);
+
+    assertThat(otpFunction.consume(EMAIL, CODE)).isTrue();
+    assertThat(otpFunction.consume(EMAIL, CODE)).isFalse();
+    assertThat(otpFunction.verify(EMAIL, CODE)).isEqualTo(EOtpVerificationResult.EXPIRED);
+  }
+
+  @Test
+  void verifyCountsWrongGuesses() {
+    for (int i = 1; i < MAX_ATTEMPTS; i++) {
+      assertThat(otpFunction.verify(EMAIL, WRONG_CODE)).isEqualTo(EOtpVerificationResult.INVALID);
+    }
+    assertThat(otpFunction.verify(EMAIL, WRONG_CODE)).isEqualTo(EOtpVerificationResult.LOCKED);
+    assertThat(otpFunction.consume(EMAIL, CODE)).isFalse();
+  }
+
+  @Test
+  void consumeRejectsReplacedCodeWithoutCountingAttempt() {
+    assertThat(otpFunction.verify(EMAIL, CODE)).isEqualTo(EOtpVerificationResult.VALID);
+    otpFunction.storeOtp(EMAIL, "654321", 60);
+
+    assertThat(otpFunction.consume(EMAIL, CODE)).isFalse();
+    assertThat(redisTemplate.<String, String>opsForHash().get("otp:{" + EMAIL + "}", "attempts")).isEqualTo("0");
+    assertThat(otpFunction.consume(EMAIL, "654321")).isTrue();
+  }
+
+  @Test
+  void consumingCodeEndsResendCooldown() {
+    assertThat(otpFunction.isResendCooldownActive(EMAIL)).isFalse();
+    otpFunction.startResendCooldown(EMAIL);
+    assertThat(otpFunction.isResendCooldownActive(EMAIL)).isTrue();
+
+    assertThat(otpFunction.verifyAndConsume(EMAIL, CODE)).isEqualTo(EOtpVerificationResult.VALID);
+
+    assertThat(otpFunction.isResendCooldownActive(EMAIL)).isFalse();
+  }
+
+  @Test
+  void clearResendCooldownEndsCooldown() {
+    otpFunction.startResendCooldown(EMAIL);
+
+    otpFunction.clearResendCooldown(EMAIL);
+
+    assertThat(otpFunction.isResendCooldownActive(EMAIL)).isFalse();
+  }
+}